@@ -1,123 +1,181 @@
 package mekanism.additions.common.voice;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
-import java.net.Socket;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.UUID;
-import mekanism.additions.common.MekanismAdditions;
 import mekanism.additions.common.item.ItemWalkieTalkie;
-import mekanism.common.Mekanism;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
-public class VoiceConnection extends Thread {
+/**
+ * A connection to the voice server. All of the methods of this are called from the selector thread of the {@link VoiceServerManager}.
+ */
+public class VoiceConnection {
 
-    private MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
-    private DataOutputStream output;
-    private DataInputStream input;
+    /**
+     * Maximum number of frames waiting to be sent to this connection, once reached the oldest frame that has not started being sent gets dropped.
+     */
+    private static final int MAX_QUEUED_FRAMES = 16;
+
+    private final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+    private final VoiceServerManager manager;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final Deque<ByteBuffer> writeQueue = new ArrayDeque<>();
+    private ByteBuffer readBuffer = ByteBuffer.allocate(VoiceServerManager.POOLED_FRAME_SIZE);
     private boolean open = true;
-    private Socket socket;
+    private boolean listening;
+    private int traceAttempts;
+    private long droppedFrames;
     private UUID uuid;
 
-    public VoiceConnection(Socket s) {
-        socket = s;
+    public VoiceConnection(VoiceServerManager manager, SocketChannel channel, Selector selector) throws IOException {
+        this.manager = manager;
+        this.channel = channel;
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        //Don't read anything until we know who the connection belongs to
+        key = channel.register(selector, 0, this);
     }
 
-    @Override
-    public void run() {
-        try {
-            input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
-            output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
-            synchronized (MekanismAdditions.voiceManager) {
-                int retryCount = 0;
-                while (uuid == null && retryCount <= 100) {
-                    try {
-                        List<ServerPlayerEntity> l = Collections.synchronizedList(new ArrayList<>(server.getPlayerList().getPlayers()));
-
-                        for (ServerPlayerEntity playerMP : l) {
-                            String playerIP = playerMP.getPlayerIP();
-                            if (!server.isDedicatedServer() && playerIP.equals("local") && !MekanismAdditions.voiceManager.isFoundLocal()) {
-                                MekanismAdditions.voiceManager.setFoundLocal(true);
-                                uuid = playerMP.getUniqueID();
-                                break;
-                            } else if (playerIP.equals(socket.getInetAddress().getHostAddress())) {
-                                uuid = playerMP.getUniqueID();
-                                break;
-                            }
-                        }
-                        retryCount++;
-                        Thread.sleep(50);
-                    } catch (Exception ignored) {
-                    }
-                }
-
-                if (uuid == null) {
-                    Mekanism.logger.error("VoiceServer: Unable to trace connection's IP address.");
-                    kill();
-                    return;
-                } else {
-                    Mekanism.logger.info("VoiceServer: Traced IP in " + retryCount + " attempts.");
-                }
+    /**
+     * Tries once to find the player this connection belongs to.
+     */
+    boolean trace() {
+        traceAttempts++;
+        if (server == null) {
+            return false;
+        }
+        String address = ((InetSocketAddress) channel.socket().getRemoteSocketAddress()).getAddress().getHostAddress();
+        for (ServerPlayerEntity playerMP : server.getPlayerList().getPlayers()) {
+            String playerIP = playerMP.getPlayerIP();
+            if (!server.isDedicatedServer() && playerIP.equals("local") && !manager.isFoundLocal()) {
+                manager.setFoundLocal(true);
+                uuid = playerMP.getUniqueID();
+                return true;
+            } else if (playerIP.equals(address)) {
+                uuid = playerMP.getUniqueID();
+                return true;
             }
-        } catch (Exception e) {
-            Mekanism.logger.error("VoiceServer: Error while starting server-based connection.", e);
-            open = false;
         }
+        return false;
+    }
+
+    int getTraceAttempts() {
+        return traceAttempts;
+    }
+
+    void startListening() {
+        listening = true;
+        key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+    }
+
+    boolean isListening() {
+        return listening && open;
+    }
+
+    boolean isOpen() {
+        return open;
+    }
 
-        // Main client listen thread
-        new Thread(() -> {
-            while (open) {
-                try {
-                    short byteCount = VoiceConnection.this.input.readShort();
-                    byte[] audioData = new byte[byteCount];
-                    VoiceConnection.this.input.readFully(audioData);
-                    if (byteCount > 0) {
-                        MekanismAdditions.voiceManager.sendToPlayers(byteCount, audioData, VoiceConnection.this);
-                    }
-                } catch (Exception e) {
-                    open = false;
+    /**
+     * @return The number of frames that were dropped because this connection was not reading them fast enough.
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Reads whatever is available and passes any complete frames on to the listeners.
+     */
+    void read() throws IOException {
+        if (channel.read(readBuffer) == -1) {
+            throw new IOException("Connection closed");
+        }
+        readBuffer.flip();
+        while (readBuffer.remaining() >= 2) {
+            int start = readBuffer.position();
+            int length = readBuffer.getShort(start) & 0xFFFF;
+            if (readBuffer.remaining() < 2 + length) {
+                if (readBuffer.capacity() < 2 + length) {
+                    //Frame is larger than our buffer, grow it so the rest of the frame fits
+                    ByteBuffer grown = ByteBuffer.allocate(2 + length);
+                    grown.put(readBuffer);
+                    readBuffer = grown;
+                    return;
                 }
+                break;
             }
-            if (!open) {
-                kill();
+            int end = start + 2 + length;
+            if (length > 0) {
+                int limit = readBuffer.limit();
+                readBuffer.position(start + 2).limit(end);
+                manager.sendToPlayers(this, readBuffer);
+                readBuffer.limit(limit);
             }
-        }).start();
+            readBuffer.position(end);
+        }
+        readBuffer.compact();
     }
 
-    private void kill() {
-        try {
-            if (input != null) {
-                input.close();
+    /**
+     * Queues a frame to be sent to this connection, the buffer gets given back to the manager once it has been sent or dropped.
+     */
+    void send(ByteBuffer frame) {
+        if (writeQueue.size() >= MAX_QUEUED_FRAMES) {
+            //Drop the oldest frame, unless we already started sending it in which case we drop the one after it
+            ByteBuffer head = writeQueue.pollFirst();
+            if (head.position() > 0) {
+                manager.releaseBuffer(writeQueue.pollFirst());
+                writeQueue.addFirst(head);
+            } else {
+                manager.releaseBuffer(head);
             }
-            if (output != null) {
-                output.close();
-            }
-            if (socket != null) {
-                socket.close();
+            droppedFrames++;
+        }
+        writeQueue.addLast(frame);
+        //Let the selector flush it the next time the channel can be written to
+        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Writes as many of the queued frames as the channel currently accepts.
+     */
+    void flush() throws IOException {
+        ByteBuffer frame;
+        while ((frame = writeQueue.peekFirst()) != null) {
+            channel.write(frame);
+            if (frame.hasRemaining()) {
+                //The socket's buffer is full, wait until it can be written to again
+                return;
             }
-            MekanismAdditions.voiceManager.removeConnection(this);
-        } catch (Exception e) {
-            Mekanism.logger.error("VoiceServer: Error while stopping server-based connection.", e);
+            manager.releaseBuffer(writeQueue.pollFirst());
         }
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
     }
 
-    public void sendToPlayer(short byteCount, byte[] audioData, VoiceConnection connection) {
+    void close() {
         if (!open) {
-            kill();
+            return;
         }
+        open = false;
+        key.cancel();
         try {
-            output.writeShort(byteCount);
-            output.write(audioData);
-            output.flush();
-        } catch (Exception e) {
-            Mekanism.logger.error("VoiceServer: Error while sending data to player.", e);
+            channel.close();
+        } catch (IOException e) {
+            VoiceServerManager.LOGGER.error("VoiceServer: Error while stopping server-based connection.", e);
+        }
+        ByteBuffer frame;
+        while ((frame = writeQueue.pollFirst()) != null) {
+            manager.releaseBuffer(frame);
         }
     }
 
@@ -146,6 +204,6 @@ public class VoiceConnection extends Thread {
     }
 
     public ServerPlayerEntity getPlayer() {
-        return server.getPlayerList().getPlayerByUUID(uuid);
+        return uuid == null || server == null ? null : server.getPlayerList().getPlayerByUUID(uuid);
     }
-}
\ No newline at end of file
+}
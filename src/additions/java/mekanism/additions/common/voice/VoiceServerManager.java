@@ -1,52 +1,100 @@
 package mekanism.additions.common.voice;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.net.SocketException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import mekanism.additions.common.config.MekanismAdditionsConfig;
-import mekanism.common.Mekanism;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+/**
+ * Voice server that handles all of its connections from a single selector thread using non-blocking channels, instead of using two threads per connection. Audio
+ * gets fanned out to the listeners through small bounded write queues, so that a client that stops reading only loses some of its own audio instead of holding up
+ * everyone else.
+ */
 public class VoiceServerManager {
 
-    private Set<VoiceConnection> connections = new ObjectOpenHashSet<>();
-    private ServerSocket serverSocket;
-    private Thread listenThread;
+    //Note: We don't use Mekanism.logger so that the server can be started without the rest of Mekanism being loaded
+    static final Logger LOGGER = LogManager.getLogger("Mekanism");
+    /**
+     * Size of the pooled frame buffers, frames are prefixed by their length as an unsigned short. The client sends frames of at most 2,200 bytes.
+     */
+    static final int POOLED_FRAME_SIZE = 2 + 4_096;
+    private static final int MAX_POOLED_BUFFERS = 256;
+    /**
+     * Number of times to try and find the player of a connection before giving up on it.
+     */
+    private static final int MAX_TRACE_ATTEMPTS = 100;
+    private static final long TRACE_INTERVAL = 50;
+
+    private final Set<VoiceConnection> connections = new ObjectOpenHashSet<>();
+    private final List<VoiceConnection> untracedConnections = new ArrayList<>();
+    /**
+     * Direct buffers used for the frames being sent, only accessed from the selector thread.
+     */
+    private final Deque<ByteBuffer> bufferPool = new ArrayDeque<>();
+    private ServerSocketChannel serverChannel;
+    private Selector selector;
+    private Thread selectorThread;
     private boolean foundLocal = false;
-    private boolean running;
+    private volatile boolean running;
+    private long lastTrace;
 
     public void start() {
-        Mekanism.logger.info("VoiceServer: Starting up server...");
+        start(MekanismAdditionsConfig.additions.VOICE_PORT.get());
+    }
+
+    public void start(int port) {
+        LOGGER.info("VoiceServer: Starting up server...");
         try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.configureBlocking(false);
+            serverChannel.bind(new InetSocketAddress(port));
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
             running = true;
-            serverSocket = new ServerSocket(MekanismAdditionsConfig.additions.VOICE_PORT.get());
-            (listenThread = new ListenThread()).start();
-        } catch (Exception ignored) {
+            selectorThread = new Thread(this::run, "VoiceServer Selector Thread");
+            selectorThread.setDaemon(true);
+            selectorThread.start();
+        } catch (IOException e) {
+            LOGGER.error("VoiceServer: Error while starting up server.", e);
+            closeQuietly();
         }
     }
 
     public void stop() {
-        try {
-            Mekanism.logger.info("VoiceServer: Shutting down server...");
-            try {
-                listenThread.interrupt();
-            } catch (Exception ignored) {
-            }
-            foundLocal = false;
+        LOGGER.info("VoiceServer: Shutting down server...");
+        running = false;
+        if (selectorThread != null) {
+            selector.wakeup();
             try {
-                serverSocket.close();
-                serverSocket = null;
-            } catch (Exception ignored) {
+                selectorThread.join(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
-        } catch (Exception e) {
-            Mekanism.logger.error("VoiceServer: Error while shutting down server.", e);
+            selectorThread = null;
         }
-        running = false;
+        closeQuietly();
+        foundLocal = false;
     }
 
-    public void removeConnection(VoiceConnection connection) {
-        connections.remove(connection);
+    /**
+     * @return The port the server is listening on, or {@code -1} if it is not running.
+     */
+    public int getPort() {
+        ServerSocketChannel channel = serverChannel;
+        return channel == null ? -1 : channel.socket().getLocalPort();
     }
 
     public boolean isFoundLocal() {
@@ -57,42 +105,157 @@ public class VoiceServerManager {
         foundLocal = found;
     }
 
-    public void sendToPlayers(short byteCount, byte[] audioData, VoiceConnection connection) {
-        if (connection.getPlayer() == null) {
-            return;
+    private void run() {
+        try {
+            while (running) {
+                selector.select(TRACE_INTERVAL);
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (key.isValid()) {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            handle(key, (VoiceConnection) key.attachment());
+                        }
+                    }
+                }
+                long time = System.currentTimeMillis();
+                if (!untracedConnections.isEmpty() && time - lastTrace >= TRACE_INTERVAL) {
+                    lastTrace = time;
+                    traceConnections();
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("VoiceServer: Error in selector thread.", e);
+        } finally {
+            for (VoiceConnection connection : new ArrayList<>(connections)) {
+                removeConnection(connection);
+            }
         }
-        int channel = connection.getCurrentChannel();
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel = serverChannel.accept();
+            if (channel != null) {
+                VoiceConnection connection = new VoiceConnection(this, channel, selector);
+                connections.add(connection);
+                untracedConnections.add(connection);
+                LOGGER.info("VoiceServer: Accepted new connection.");
+            }
+        } catch (IOException e) {
+            LOGGER.error("VoiceServer: Error while accepting connection.", e);
+        }
+    }
+
+    private void handle(SelectionKey key, VoiceConnection connection) {
+        try {
+            if (key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (IOException e) {
+            removeConnection(connection);
+        }
+    }
+
+    private void traceConnections() {
+        for (Iterator<VoiceConnection> iterator = untracedConnections.iterator(); iterator.hasNext(); ) {
+            VoiceConnection connection = iterator.next();
+            if (!connection.isOpen()) {
+                iterator.remove();
+            } else if (identify(connection)) {
+                iterator.remove();
+                LOGGER.info("VoiceServer: Traced IP in " + connection.getTraceAttempts() + " attempts.");
+                connection.startListening();
+            } else if (connection.getTraceAttempts() > MAX_TRACE_ATTEMPTS) {
+                iterator.remove();
+                LOGGER.error("VoiceServer: Unable to trace connection's IP address.");
+                removeConnection(connection);
+            }
+        }
+    }
+
+    /**
+     * Tries to find the player a connection belongs to. This gets called every {@link #TRACE_INTERVAL} milliseconds until it succeeds or runs out of attempts.
+     *
+     * @return {@code true} if the player was found.
+     */
+    protected boolean identify(VoiceConnection connection) {
+        return connection.trace();
+    }
+
+    /**
+     * @return The channel the given connection is talking on, or {@code 0} if it is not talking.
+     */
+    protected int getChannel(VoiceConnection connection) {
+        return connection.getPlayer() == null ? 0 : connection.getCurrentChannel();
+    }
+
+    protected boolean canListen(VoiceConnection connection, int channel) {
+        return connection.getPlayer() != null && connection.canListen(channel);
+    }
+
+    void removeConnection(VoiceConnection connection) {
+        connections.remove(connection);
+        connection.close();
+    }
+
+    /**
+     * Sends a frame of audio to everyone listening to the channel of the connection it came from.
+     *
+     * @param audio Audio data, between the position and limit of the buffer. The position of the buffer is left unchanged.
+     */
+    void sendToPlayers(VoiceConnection connection, ByteBuffer audio) {
+        int channel = getChannel(connection);
         if (channel == 0) {
             return;
         }
+        int position = audio.position();
+        int length = audio.remaining();
         for (VoiceConnection iterConn : connections) {
-            if (iterConn.getPlayer() != null && iterConn != connection && iterConn.canListen(channel)) {
-                iterConn.sendToPlayer(byteCount, audioData, connection);
+            if (iterConn != connection && iterConn.isListening() && canListen(iterConn, channel)) {
+                ByteBuffer frame = acquireBuffer(2 + length);
+                frame.putShort((short) length).put(audio).flip();
+                audio.position(position);
+                iterConn.send(frame);
             }
         }
     }
 
-    private class ListenThread extends Thread {
+    ByteBuffer acquireBuffer(int size) {
+        if (size > POOLED_FRAME_SIZE) {
+            return ByteBuffer.allocate(size);
+        }
+        ByteBuffer buffer = bufferPool.pollFirst();
+        return buffer == null ? ByteBuffer.allocateDirect(POOLED_FRAME_SIZE) : buffer;
+    }
 
-        private ListenThread() {
-            setDaemon(true);
-            setName("VoiceServer Listen Thread");
+    void releaseBuffer(ByteBuffer buffer) {
+        if (buffer.isDirect() && bufferPool.size() < MAX_POOLED_BUFFERS) {
+            buffer.clear();
+            bufferPool.addFirst(buffer);
         }
+    }
 
-        @Override
-        public void run() {
-            while (running) {
-                try {
-                    Socket s = serverSocket.accept();
-                    VoiceConnection connection = new VoiceConnection(s);
-                    connection.start();
-                    connections.add(connection);
-                    Mekanism.logger.info("VoiceServer: Accepted new connection.");
-                } catch (SocketException | NullPointerException ignored) {
-                } catch (Exception e) {
-                    Mekanism.logger.error("VoiceServer: Error while accepting connection.", e);
-                }
+    private void closeQuietly() {
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+            if (selector != null) {
+                selector.close();
             }
+        } catch (IOException e) {
+            LOGGER.error("VoiceServer: Error while shutting down server.", e);
         }
+        serverChannel = null;
+        selector = null;
+        untracedConnections.clear();
+        bufferPool.clear();
     }
-}
\ No newline at end of file
+}
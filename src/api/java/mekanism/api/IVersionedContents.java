@@ -0,0 +1,18 @@
+package mekanism.api;
+
+/**
+ * Implemented by things that keep track of how many times their contents have changed, so that anything watching them can tell if they changed by comparing a single
+ * number instead of comparing the contents themselves.
+ */
+public interface IVersionedContents {
+
+    /**
+     * Gets the current version of the contents. This gets incremented every time the contents change, so if the version is the same as it was the last time it was
+     * checked, the contents have not changed.
+     *
+     * @return The current version of the contents.
+     *
+     * @apiNote The version may also get incremented when something happens that does not end up changing the contents.
+     */
+    int getContentsVersion();
+}
@@ -127,6 +127,7 @@ public final class NBTConstants {
     public static final String RECURRING_NODES = "recurringNodes";
     public static final String REDSTONE = "redstone";
     public static final String REPLACE_STACK = "replaceStack";
+    public static final String REPLACE_TARGETS = "replaceTargets";
     public static final String REQUIRE_STACK = "requireStack";
     public static final String ROUND_ROBIN = "roundRobin";
     public static final String RUNNING = "running";
@@ -148,6 +149,7 @@ public final class NBTConstants {
     public static final String TEMPERATURE = "temperature";
     public static final String TILE_TAG = "tileTag";
     public static final String TIME = "time";
+    public static final String TO_MINE = "toMine";
     public static final String TRUSTED = "trusted";
     public static final String TYPE = "type";
     public static final String UPDATE_DELAY = "updateDelay";
@@ -7,6 +7,7 @@ import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mcp.MethodsReturnNonnullByDefault;
 import mekanism.api.Action;
+import mekanism.api.IVersionedContents;
 import mekanism.api.NBTConstants;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.BasicChemicalTank;
@@ -16,7 +17,7 @@ import net.minecraftforge.common.util.Constants.NBT;
 
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
-public class BasicGasTank extends BasicChemicalTank<Gas, GasStack> implements IGasHandler {
+public class BasicGasTank extends BasicChemicalTank<Gas, GasStack> implements IGasHandler, IVersionedContents {
 
     public static final Predicate<@NonNull Gas> alwaysTrue = stack -> true;
     public static final Predicate<@NonNull Gas> alwaysFalse = stack -> false;
@@ -26,6 +27,7 @@ public class BasicGasTank extends BasicChemicalTank<Gas, GasStack> implements IG
 
     @Nullable
     private final IMekanismGasHandler gasHandler;
+    private int contentsVersion;
 
     public static BasicGasTank create(int capacity, @Nullable IMekanismGasHandler gasHandler) {
         if (capacity < 0) {
@@ -123,11 +125,17 @@ public class BasicGasTank extends BasicChemicalTank<Gas, GasStack> implements IG
 
     @Override
     public void onContentsChanged() {
+        contentsVersion++;
         if (gasHandler != null) {
             gasHandler.onContentsChanged();
         }
     }
 
+    @Override
+    public int getContentsVersion() {
+        return contentsVersion;
+    }
+
     @Override
     public void deserializeNBT(CompoundNBT nbt) {
         if (nbt.contains(NBTConstants.STORED, NBT.TAG_COMPOUND)) {
@@ -7,6 +7,7 @@ import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mcp.MethodsReturnNonnullByDefault;
 import mekanism.api.Action;
+import mekanism.api.IVersionedContents;
 import mekanism.api.NBTConstants;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.BasicChemicalTank;
@@ -16,7 +17,7 @@ import net.minecraftforge.common.util.Constants.NBT;
 
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
-public class BasicInfusionTank extends BasicChemicalTank<InfuseType, InfusionStack> implements IInfusionHandler {
+public class BasicInfusionTank extends BasicChemicalTank<InfuseType, InfusionStack> implements IInfusionHandler, IVersionedContents {
 
     public static final Predicate<@NonNull InfuseType> alwaysTrue = stack -> true;
     public static final BiPredicate<@NonNull InfuseType, @NonNull AutomationType> alwaysTrueBi = (stack, automationType) -> true;
@@ -24,6 +25,7 @@ public class BasicInfusionTank extends BasicChemicalTank<InfuseType, InfusionSta
 
     @Nullable
     private final IMekanismInfusionHandler infusionHandler;
+    private int contentsVersion;
 
     public static BasicInfusionTank create(int capacity, @Nullable IMekanismInfusionHandler infusionHandler) {
         return create(capacity, alwaysTrue, infusionHandler);
@@ -96,11 +98,17 @@ public class BasicInfusionTank extends BasicChemicalTank<InfuseType, InfusionSta
 
     @Override
     public void onContentsChanged() {
+        contentsVersion++;
         if (infusionHandler != null) {
             infusionHandler.onContentsChanged();
         }
     }
 
+    @Override
+    public int getContentsVersion() {
+        return contentsVersion;
+    }
+
     @Override
     public void deserializeNBT(CompoundNBT nbt) {
         if (nbt.contains(NBTConstants.STORED, NBT.TAG_COMPOUND)) {
@@ -1,7 +1,5 @@
 package mekanism.api.math;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
@@ -23,8 +21,6 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         df = new DecimalFormat("0.0000", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
     }
 
-    //TODO: Eventually we should define a way of doing a set of operations all at once, and outputting a new value
-    // given that way we can internally do all the calculations using primitives rather than spamming a lot of objects
     /**
      * The maximum number of decimal digits we can represent
      */
@@ -236,13 +232,27 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * {@code value = value.plusEqual(toAdd)}
      */
     public FloatingLong plusEqual(FloatingLong toAdd) {
-        long newValue;
-        short newDecimal;
-        if ((value < 0 && toAdd.value < 0) || ((value < 0 || toAdd.value < 0) && (value + toAdd.value >= 0))) {
+        return plusEqual(toAdd.value, toAdd.decimal);
+    }
+
+    /**
+     * Adds the given unsigned long and decimal to this {@link FloatingLong}, modifying the current object unless it is a constant in which case it instead returns the
+     * result in a new object. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toAddValue   The whole number portion to add represented as an unsigned long.
+     * @param toAddDecimal The decimal portion to add, between zero and {@code 9999}.
+     *
+     * @return The {@link FloatingLong} representing the value of adding the given value to this {@link FloatingLong}.
+     *
+     * @apiNote This does not allocate any objects unless this {@link FloatingLong} is a constant, so should be preferred for accumulating values in hot code.
+     */
+    public FloatingLong plusEqual(long toAddValue, short toAddDecimal) {
+        toAddDecimal = clampDecimal(toAddDecimal);
+        if ((value < 0 && toAddValue < 0) || ((value < 0 || toAddValue < 0) && (value + toAddValue >= 0))) {
             return setAndClampValues(-1, MAX_DECIMAL);
         }
-        newValue = value + toAdd.value;
-        newDecimal = (short) (decimal + toAdd.decimal);
+        long newValue = value + toAddValue;
+        short newDecimal = (short) (decimal + toAddDecimal);
         if (newDecimal > MAX_DECIMAL) {
             if (newValue == -1) {
                 newDecimal = MAX_DECIMAL;
@@ -267,12 +277,28 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * {@code value = value.minusEqual(toSubtract)}
      */
     public FloatingLong minusEqual(FloatingLong toSubtract) {
-        if (toSubtract.greaterThan(this)) {
+        return minusEqual(toSubtract.value, toSubtract.decimal);
+    }
+
+    /**
+     * Subtracts the given unsigned long and decimal from this {@link FloatingLong}, modifying the current object unless it is a constant in which case it instead returns
+     * the result in a new object. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @param toSubtractValue   The whole number portion to subtract represented as an unsigned long.
+     * @param toSubtractDecimal The decimal portion to subtract, between zero and {@code 9999}.
+     *
+     * @return The {@link FloatingLong} representing the value of subtracting the given value from this {@link FloatingLong}.
+     *
+     * @apiNote This does not allocate any objects unless this {@link FloatingLong} is a constant, so should be preferred for accumulating values in hot code.
+     */
+    public FloatingLong minusEqual(long toSubtractValue, short toSubtractDecimal) {
+        toSubtractDecimal = clampDecimal(toSubtractDecimal);
+        if (compare(toSubtractValue, toSubtractDecimal, value, decimal) > 0) {
             //Clamp the result at zero as floating longs cannot become negative
             return setAndClampValues(0, (short) 0);
         }
-        long newValue = value - toSubtract.value;
-        short newDecimal = (short) (decimal - toSubtract.decimal);
+        long newValue = value - toSubtractValue;
+        short newDecimal = (short) (decimal - toSubtractDecimal);
         if (newDecimal < 0) {
             newDecimal += SINGLE_UNIT;
             newValue--;
@@ -293,15 +319,48 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * {@code value = value.timesEqual(toMultiply)}
      */
     public FloatingLong timesEqual(FloatingLong toMultiply) {
-        //(a+b)*(c+d) where numbers represent decimal, numbers represent value
-        if (multiplyLongsWillOverFlow(value, toMultiply.value)) {
-            return MAX_VALUE;
+        return timesEqual(toMultiply.value, toMultiply.decimal);
+    }
+
+    /**
+     * Multiplies the given unsigned long and decimal with this {@link FloatingLong}, modifying the current object unless it is a constant in which case it instead returns
+     * the result in a new object. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toMultiplyValue   The whole number portion to multiply by represented as an unsigned long.
+     * @param toMultiplyDecimal The decimal portion to multiply by, between zero and {@code 9999}.
+     *
+     * @return The {@link FloatingLong} representing the value of multiplying the given value with this {@link FloatingLong}.
+     *
+     * @apiNote This does not allocate any objects unless this {@link FloatingLong} is a constant, so should be preferred for accumulating values in hot code.
+     */
+    public FloatingLong timesEqual(long toMultiplyValue, short toMultiplyDecimal) {
+        toMultiplyDecimal = clampDecimal(toMultiplyDecimal);
+        //(a+b)*(c+d) where a and c are the values, and b and d are the decimals stored as multiples of 1/SINGLE_UNIT
+        // In units of 1/SINGLE_UNIT the result is a*c*SINGLE_UNIT + a*d + b*c + b*d/SINGLE_UNIT, so we add up everything other than a*c
+        // using 128-bit math and then split it into its whole number and decimal portions
+        if (multiplyLongsWillOverFlow(value, toMultiplyValue)) {
+            return setAndClampValues(-1, MAX_DECIMAL);
+        }
+        long ac = value * toMultiplyValue;
+        long adLow = value * toMultiplyDecimal;
+        long adHigh = multiplyHighUnsigned(value, toMultiplyDecimal);
+        long bcLow = toMultiplyValue * decimal;
+        long bcHigh = multiplyHighUnsigned(toMultiplyValue, decimal);
+        long low = adLow + bcLow;
+        long high = adHigh + bcHigh + carry(low, adLow);
+        long bd = (long) decimal * toMultiplyDecimal / SINGLE_UNIT;
+        long sumLow = low + bd;
+        high += carry(sumLow, low);
+        if (Long.compareUnsigned(high, SINGLE_UNIT) >= 0) {
+            //The part to add to the whole number is at least 2^64
+            return setAndClampValues(-1, MAX_DECIMAL);
+        }
+        long whole = divideBySingleUnit(high, sumLow);
+        long newValue = ac + whole;
+        if (Long.compareUnsigned(newValue, ac) < 0) {
+            return setAndClampValues(-1, MAX_DECIMAL);
         }
-        FloatingLong temp = create(multiplyLongs(value, toMultiply.value));//a * c
-        temp = temp.plusEqual(multiplyLongAndDecimal(value, toMultiply.decimal));//a * d
-        temp = temp.plusEqual(multiplyLongAndDecimal(toMultiply.value, decimal));//b * c
-        temp = temp.plusEqual(multiplyDecimals(decimal, toMultiply.decimal));//b * d
-        return setAndClampValues(temp.value, temp.decimal);
+        return setAndClampValues(newValue, (short) (sumLow - whole * SINGLE_UNIT));
     }
 
     /**
@@ -318,13 +377,60 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * {@code value = value.divideEquals(toDivide)}
      */
     public FloatingLong divideEquals(FloatingLong toDivide) {
-        if (toDivide.isZero()) {
+        return divideEquals(toDivide.value, toDivide.decimal);
+    }
+
+    /**
+     * Divides this {@link FloatingLong} by the given unsigned long and decimal, modifying the current object unless it is a constant in which case it instead returns the
+     * result in a new object. The result is rounded half even to the number of decimal digits we can represent, and gets clamped at the upper bound of {@link
+     * FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toDivideValue   The whole number portion to divide by represented as an unsigned long.
+     * @param toDivideDecimal The decimal portion to divide by, between zero and {@code 9999}.
+     *
+     * @return The {@link FloatingLong} representing the value of dividing this {@link FloatingLong} by the given value.
+     *
+     * @throws ArithmeticException if the value to divide by is zero.
+     * @apiNote This does not allocate any objects unless this {@link FloatingLong} is a constant, so should be preferred for accumulating values in hot code.
+     */
+    public FloatingLong divideEquals(long toDivideValue, short toDivideDecimal) {
+        toDivideDecimal = clampDecimal(toDivideDecimal);
+        if (toDivideValue == 0 && toDivideDecimal == 0) {
             throw new ArithmeticException("Division by zero");
         }
-        BigDecimal divide = new BigDecimal(toString()).divide(new BigDecimal(toDivide.toString()), DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
-        long value = divide.longValue();
-        short decimal = parseDecimal(divide.toPlainString());
-        return setAndClampValues(value, decimal);
+        //Work in units of 1/SINGLE_UNIT so that both numbers are integers, A / C
+        long aLow = value * SINGLE_UNIT + decimal;
+        long aHigh = multiplyHighUnsigned(value, SINGLE_UNIT) + carry(aLow, value * SINGLE_UNIT);
+        long cLow = toDivideValue * SINGLE_UNIT + toDivideDecimal;
+        long cHigh = multiplyHighUnsigned(toDivideValue, SINGLE_UNIT) + carry(cLow, toDivideValue * SINGLE_UNIT);
+        if (cHigh == 0 && Long.compareUnsigned(aHigh, cLow) >= 0) {
+            //The whole number portion of the result is at least 2^64
+            return setAndClampValues(-1, MAX_DECIMAL);
+        }
+        //Whole number portion and the remainder of it
+        long whole = divideUnsigned128(aHigh, aLow, cHigh, cLow);
+        long remainderLow = aLow - whole * cLow;
+        long remainderHigh = aHigh - multiplyHighUnsigned(whole, cLow) - whole * cHigh - borrow(aLow, whole * cLow);
+        //Decimal portion, the remainder is smaller than C so the decimal is always smaller than SINGLE_UNIT
+        long scaledLow = remainderLow * SINGLE_UNIT;
+        long scaledHigh = remainderHigh * SINGLE_UNIT + multiplyHighUnsigned(remainderLow, SINGLE_UNIT);
+        long newDecimal = divideUnsigned128(scaledHigh, scaledLow, cHigh, cLow);
+        remainderLow = scaledLow - newDecimal * cLow;
+        remainderHigh = scaledHigh - multiplyHighUnsigned(newDecimal, cLow) - newDecimal * cHigh - borrow(scaledLow, newDecimal * cLow);
+        //Round half even by comparing twice the remainder against C
+        int roundCompare = compareUnsigned128((remainderHigh << 1) | (remainderLow >>> 63), remainderLow << 1, cHigh, cLow);
+        if (roundCompare > 0 || roundCompare == 0 && (newDecimal & 1) == 1) {
+            newDecimal++;
+            if (newDecimal == SINGLE_UNIT) {
+                newDecimal = 0;
+                whole++;
+                if (whole == 0) {
+                    //Rounding up overflowed the whole number portion
+                    return setAndClampValues(-1, MAX_DECIMAL);
+                }
+            }
+        }
+        return setAndClampValues(whole, (short) newDecimal);
     }
 
     /**
@@ -348,7 +454,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * @return The {@link FloatingLong} representing the value of adding the given unsigned long to this {@link FloatingLong}.
      */
     public FloatingLong add(long toAdd) {
-        return add(FloatingLong.create(toAdd));
+        return copy().plusEqual(toAdd, (short) 0);
     }
 
     /**
@@ -389,7 +495,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * @return The {@link FloatingLong} representing the value of subtracting the given unsigned long from this {@link FloatingLong}.
      */
     public FloatingLong subtract(long toSubtract) {
-        return subtract(FloatingLong.create(toSubtract));
+        return copy().minusEqual(toSubtract, (short) 0);
     }
 
     /**
@@ -430,7 +536,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * @return The {@link FloatingLong} representing the value of multiplying the given unsigned long with this {@link FloatingLong}.
      */
     public FloatingLong multiply(long toMultiply) {
-        return multiply(FloatingLong.create(toMultiply));
+        return copy().timesEqual(toMultiply, (short) 0);
     }
 
     /**
@@ -475,7 +581,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * @throws ArithmeticException if {@code toDivide} is zero.
      */
     public FloatingLong divide(long toDivide) {
-        return divide(FloatingLong.create(toDivide));
+        return copy().divideEquals(toDivide, (short) 0);
     }
 
     /**
@@ -510,6 +616,31 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         return toDivide.isZero() ? 1 : divide(toDivide).doubleValue();
     }
 
+    /**
+     * Divides this {@link FloatingLong} by the given {@link FloatingLong} and returns the whole number portion of the result, rounded down, as an unsigned long. This
+     * gets clamped at the upper bound of an unsigned long rather than overflowing.
+     *
+     * @param toDivide The {@link FloatingLong} to divide by.
+     *
+     * @return The whole number portion of dividing this {@link FloatingLong} by the given {@link FloatingLong}, represented as an unsigned long.
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     * @apiNote Unlike {@link #divide(FloatingLong)} this does not round the result, and does not allocate any objects.
+     */
+    public long divideToUnsignedLong(FloatingLong toDivide) {
+        if (toDivide.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long aLow = value * SINGLE_UNIT + decimal;
+        long aHigh = multiplyHighUnsigned(value, SINGLE_UNIT) + carry(aLow, value * SINGLE_UNIT);
+        long cLow = toDivide.value * SINGLE_UNIT + toDivide.decimal;
+        long cHigh = multiplyHighUnsigned(toDivide.value, SINGLE_UNIT) + carry(cLow, toDivide.value * SINGLE_UNIT);
+        if (cHigh == 0 && Long.compareUnsigned(aHigh, cLow) >= 0) {
+            return -1;
+        }
+        return divideUnsigned128(aHigh, aLow, cHigh, cLow);
+    }
+
     /**
      * @param other The {@link FloatingLong} to compare to
      *
@@ -568,13 +699,20 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      */
     @Override
     public int compareTo(FloatingLong toCompare) {
-        int valueCompare = Long.compareUnsigned(value, toCompare.value);
+        return compare(value, decimal, toCompare.value, toCompare.decimal);
+    }
+
+    /**
+     * Internal helper to compare two values represented by an unsigned long and a decimal, in the same way as {@link #compareTo(FloatingLong)}.
+     */
+    private static int compare(long value, short decimal, long toCompareValue, short toCompareDecimal) {
+        int valueCompare = Long.compareUnsigned(value, toCompareValue);
         if (valueCompare == 0) {
             //Primary value is equal, check the decimal
-            if (decimal < toCompare.decimal) {
+            if (decimal < toCompareDecimal) {
                 //If our primary value is equal, but our decimal smaller than toCompare's we are less than
                 return -2;
-            } else if (decimal > toCompare.decimal) {
+            } else if (decimal > toCompareDecimal) {
                 //If our primary value is equal, but our decimal bigger than toCompare's we are greater than
                 return 2;
             }
@@ -785,34 +923,87 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
     }
 
     /**
-     * Internal helper to multiply two longs and clamp if they overflow.
+     * Internal helper to clamp a decimal passed to one of the primitive operations to the range we can represent.
      */
-    private static long multiplyLongs(long a, long b) {
-        if (a == 0 || b == 0) {
+    private static short clampDecimal(short decimal) {
+        if (decimal < 0) {
             return 0;
-        } else if (multiplyLongsWillOverFlow(a, b)) {
-            return -1;
+        } else if (decimal > MAX_DECIMAL) {
+            return MAX_DECIMAL;
         }
-        return a * b;
+        return decimal;
     }
 
     /**
-     * Internal helper to multiply a long by a decimal.
+     * Internal helper to get the high 64 bits of the 128-bit product of two unsigned longs.
      */
-    private static FloatingLong multiplyLongAndDecimal(long value, short decimal) {
-        //This can't overflow!
-        if (Long.compareUnsigned(value, Long.divideUnsigned(-1, SINGLE_UNIT)) > 0) {
-            return create(Long.divideUnsigned(value, SINGLE_UNIT) * decimal, (short) (value % SINGLE_UNIT * decimal));
-        }
-        return create(Long.divideUnsigned(value * decimal, SINGLE_UNIT), (short) (value * decimal % SINGLE_UNIT));
+    private static long multiplyHighUnsigned(long a, long b) {
+        long aLow = a & 0xFFFFFFFFL;
+        long aHigh = a >>> 32;
+        long bLow = b & 0xFFFFFFFFL;
+        long bHigh = b >>> 32;
+        long lowLow = aLow * bLow;
+        long highLow = aHigh * bLow;
+        long middle = (lowLow >>> 32) + (highLow & 0xFFFFFFFFL) + aLow * bHigh;
+        return aHigh * bHigh + (highLow >>> 32) + (middle >>> 32);
+    }
+
+    /**
+     * Internal helper to get the carry of an unsigned addition, given the sum and one of the numbers that were added.
+     */
+    private static long carry(long sum, long added) {
+        return Long.compareUnsigned(sum, added) < 0 ? 1 : 0;
     }
 
     /**
-     * Internal helper to multiply two decimals.
+     * Internal helper to get the borrow of an unsigned subtraction {@code a - b}.
      */
-    private static FloatingLong multiplyDecimals(short a, short b) {
-        //Note: If we instead wanted to round here, just get modulus and add if >= 0.5*SINGLE_UNIT
-        long temp = (long) a * (long) b / SINGLE_UNIT;
-        return create(0, (short) temp);
+    private static long borrow(long a, long b) {
+        return Long.compareUnsigned(a, b) < 0 ? 1 : 0;
+    }
+
+    /**
+     * Internal helper to compare two unsigned 128-bit numbers.
+     */
+    private static int compareUnsigned128(long aHigh, long aLow, long bHigh, long bLow) {
+        int highCompare = Long.compareUnsigned(aHigh, bHigh);
+        return highCompare == 0 ? Long.compareUnsigned(aLow, bLow) : highCompare;
+    }
+
+    /**
+     * Internal helper to divide an unsigned 128-bit number by {@link #SINGLE_UNIT}, the high bits must be smaller than {@link #SINGLE_UNIT} so that the result fits in
+     * an unsigned long.
+     */
+    private static long divideBySingleUnit(long high, long low) {
+        //Divide 32 bits at a time, the high bits are small enough that each step fits in a long
+        long upper = (high << 32) | (low >>> 32);
+        long lower = ((upper % SINGLE_UNIT) << 32) | (low & 0xFFFFFFFFL);
+        return ((upper / SINGLE_UNIT) << 32) | (lower / SINGLE_UNIT);
+    }
+
+    /**
+     * Internal helper to divide two unsigned 128-bit numbers, the quotient must fit in an unsigned long.
+     */
+    private static long divideUnsigned128(long nHigh, long nLow, long dHigh, long dLow) {
+        if (nHigh == 0 && dHigh == 0) {
+            return Long.divideUnsigned(nLow, dLow);
+        }
+        //Binary long division, starting at the highest set bit of the numerator
+        long quotient = 0;
+        long remainderHigh = 0;
+        long remainderLow = 0;
+        int highestBit = nHigh == 0 ? 63 - Long.numberOfLeadingZeros(nLow) : 127 - Long.numberOfLeadingZeros(nHigh);
+        for (int bit = highestBit; bit >= 0; bit--) {
+            long nextBit = bit >= 64 ? (nHigh >>> (bit - 64)) & 1 : (nLow >>> bit) & 1;
+            remainderHigh = (remainderHigh << 1) | (remainderLow >>> 63);
+            remainderLow = (remainderLow << 1) | nextBit;
+            if (compareUnsigned128(remainderHigh, remainderLow, dHigh, dLow) >= 0) {
+                remainderHigh = remainderHigh - dHigh - borrow(remainderLow, dLow);
+                remainderLow -= dLow;
+                //As the quotient fits in a long, this only happens for bits below 64
+                quotient |= 1L << bit;
+            }
+        }
+        return quotient;
     }
 }
\ No newline at end of file
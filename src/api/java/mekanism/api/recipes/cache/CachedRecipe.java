@@ -14,6 +14,7 @@ import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
 import mekanism.api.math.FloatingLongConsumer;
 import mekanism.api.math.FloatingLongSupplier;
+import mekanism.api.math.MathUtils;
 import mekanism.api.recipes.MekanismRecipe;
 
 @FieldsAreNonnullByDefault
@@ -183,7 +184,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
             return currentMax;
         }
         //Make sure we don't have any integer overflow in calculating how much we have room for
-        return Math.min(getStoredElectricity().divide(energyPerTick).intValue(), currentMax);
+        return Math.min(MathUtils.clampUnsignedToInt(getStoredElectricity().divideToUnsignedLong(energyPerTick)), currentMax);
     }
 
     public boolean canFunction() {
@@ -1,11 +1,26 @@
 package mekanism.api.transmitters;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -15,9 +30,13 @@ import mekanism.api.IClientTicker;
 import mekanism.api.Range3D;
 import mekanism.api.text.IHasTextComponent;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.fml.common.thread.EffectiveSide;
 
@@ -31,10 +50,28 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmitters = new ObjectLinkedOpenHashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersToAdd = new ObjectLinkedOpenHashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersAdded = new ObjectLinkedOpenHashSet<>();
+    /**
+     * Our transmitters keyed by their packed position, used for checking connectivity locally when transmitters get removed.
+     */
+    protected final Long2ObjectMap<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmitterPositions = new Long2ObjectOpenHashMap<>();
 
-    protected Set<Coord4D> possibleAcceptors = new ObjectOpenHashSet<>();
-    protected Map<Coord4D, EnumSet<Direction>> acceptorDirections = new Object2ObjectOpenHashMap<>();
+    /**
+     * Positions of our acceptors, packed using {@link BlockPos#toLong()}, mapped to a bitmask of the sides of each acceptor that are connected to the network.
+     */
+    protected final Long2ByteMap acceptorDirections = new Long2ByteOpenHashMap();
     protected Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, EnumSet<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * Resolved handlers of our acceptors, keyed by the position of the acceptor. Entries are dropped when the acceptor changes or when the backing capability gets
+     * invalidated so that emitting does not have to look up chunks or resolve capabilities every tick.
+     */
+    private final Long2ObjectMap<CachedAcceptor<ACCEPTOR>> cachedAcceptors = new Long2ObjectOpenHashMap<>();
+    /**
+     * Handlers we have registered an invalidation listener on, so that resolving the same handler again does not register another listener.
+     */
+    private final Set<LazyOptional<ACCEPTOR>> listenedHandlers = new ReferenceOpenHashSet<>();
+    /**
+     * Bounding range of our transmitters, kept up to date as transmitters get added and removed. {@code null} if it needs to be recalculated.
+     */
     protected Range3D packetRange = null;
     protected int capacity;
     protected boolean needsUpdate = false;
@@ -47,6 +84,10 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     private boolean forceScaleUpdate = false;
 
     public void addNewTransmitters(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> newTransmitters) {
+        if (world == null && !newTransmitters.isEmpty()) {
+            //Set the world as soon as we know it so that the network can be registered to the correct dimension
+            world = newTransmitters.iterator().next().world();
+        }
         transmittersToAdd.addAll(newTransmitters);
         if (!forceScaleUpdate) {
             //If we currently have no transmitters, mark that we want to force our scale to update to the target after the initial adding
@@ -71,6 +112,9 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
                     updateCapacity(transmitter);
                     absorbBuffer(transmitter);
                     transmitters.add(transmitter);
+                    transmitterPositions.put(getPositionKey(transmitter.coord()), transmitter);
+                    includeInPacketRange(transmitter.coord());
+                    onTransmitterAdded(transmitter);
                 }
             }
 
@@ -89,7 +133,9 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
                 IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = entry.getKey();
                 if (transmitter.isValid()) {
                     //Update all the changed directions
+                    long pos = getPositionKey(transmitter.coord());
                     for (Direction side : entry.getValue()) {
+                        invalidateCachedAcceptor(BlockPos.offset(pos, side), side.getOpposite());
                         updateTransmitterOnSide(transmitter, side);
                     }
                 }
@@ -100,26 +146,170 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void updateTransmitterOnSide(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Direction side) {
         ACCEPTOR acceptor = transmitter.getAcceptor(side);
-        Coord4D acceptorCoord = transmitter.coord().offset(side);
-        EnumSet<Direction> directions = acceptorDirections.get(acceptorCoord);
-
+        long acceptorPos = BlockPos.offset(getPositionKey(transmitter.coord()), side);
+        Direction acceptorSide = side.getOpposite();
         if (acceptor != null) {
-            possibleAcceptors.add(acceptorCoord);
-            if (directions != null) {
-                directions.add(side.getOpposite());
-            } else {
-                acceptorDirections.put(acceptorCoord, EnumSet.of(side.getOpposite()));
+            acceptorDirections.put(acceptorPos, (byte) (acceptorDirections.get(acceptorPos) | getSideMask(acceptorSide)));
+        } else {
+            removeAcceptorSide(acceptorPos, acceptorSide);
+        }
+    }
+
+    private void removeAcceptorSide(long acceptorPos, Direction acceptorSide) {
+        byte sides = (byte) (acceptorDirections.get(acceptorPos) & ~getSideMask(acceptorSide));
+        if (sides == 0) {
+            acceptorDirections.remove(acceptorPos);
+            cachedAcceptors.remove(acceptorPos);
+        } else {
+            acceptorDirections.put(acceptorPos, sides);
+            invalidateCachedAcceptor(acceptorPos, acceptorSide);
+        }
+    }
+
+    /**
+     * Gets the handler of the acceptor at the given position, resolving and caching it if we do not have a valid handler cached for it yet.
+     *
+     * @param pos  Position of the acceptor, packed using {@link BlockPos#toLong()}.
+     * @param side Side of the acceptor to get the handler for.
+     *
+     * @return The handler, or {@code null} if the acceptor is not loaded or does not expose a handler on the given side.
+     *
+     * @apiNote A side that does not expose a handler is remembered until the acceptor changes, so the handler is not looked up again every tick.
+     */
+    @Nullable
+    protected ACCEPTOR getCachedAcceptor(long pos, Direction side) {
+        CachedAcceptor<ACCEPTOR> cachedAcceptor = cachedAcceptors.get(pos);
+        if (cachedAcceptor == null || cachedAcceptor.tile.isRemoved()) {
+            World world = getWorld();
+            BlockPos blockPos = BlockPos.fromLong(pos);
+            if (world == null || !world.isBlockPresent(blockPos)) {
+                return null;
             }
-        } else if (directions != null) {
-            directions.remove(side.getOpposite());
+            TileEntity tile = world.getTileEntity(blockPos);
+            if (tile == null) {
+                cachedAcceptors.remove(pos);
+                return null;
+            }
+            cachedAcceptor = new CachedAcceptor<>(tile);
+            cachedAcceptors.put(pos, cachedAcceptor);
+        }
+        if (hasSide(cachedAcceptor.missingSides, side)) {
+            return null;
+        }
+        LazyOptional<ACCEPTOR> handler = cachedAcceptor.handlers.get(side);
+        if (handler == null || !handler.isPresent()) {
+            handler = getAcceptorHandler(cachedAcceptor.tile, side);
+            if (!handler.isPresent()) {
+                handler = getWrappedAcceptorHandler(cachedAcceptor, side);
+            }
+            if (!handler.isPresent()) {
+                cachedAcceptor.handlers.remove(side);
+                cachedAcceptor.missingSides |= getSideMask(side);
+                return null;
+            }
+            if (listenedHandlers.add(handler)) {
+                handler.addListener(invalidated -> onHandlerInvalidated(pos, invalidated));
+            }
+            cachedAcceptor.handlers.put(side, handler);
+        }
+        return handler.orElse(null);
+    }
+
+    /**
+     * Gets a handler wrapping the capability returned by {@link #getWrappableAcceptorHandler(TileEntity, Direction)}, reusing the wrapper we made before as long as the
+     * wrapped capability is still the same, so that we don't add another listener to the wrapped capability every time the acceptor changes.
+     */
+    private LazyOptional<ACCEPTOR> getWrappedAcceptorHandler(CachedAcceptor<ACCEPTOR> cachedAcceptor, Direction side) {
+        LazyOptional<?> source = getWrappableAcceptorHandler(cachedAcceptor.tile, side);
+        WrappedHandler<ACCEPTOR> wrapped = cachedAcceptor.wrappedHandlers.get(side);
+        if (wrapped != null && wrapped.source == source && wrapped.handler.isPresent()) {
+            return wrapped.handler;
+        }
+        if (wrapped != null) {
+            //The wrapper we had is stale, stop keeping track of it
+            listenedHandlers.remove(wrapped.handler);
+        }
+        if (!source.isPresent()) {
+            cachedAcceptor.wrappedHandlers.remove(side);
+            return LazyOptional.empty();
+        }
+        wrapped = new WrappedHandler<>(source, wrapAcceptorHandler(source));
+        cachedAcceptor.wrappedHandlers.put(side, wrapped);
+        return wrapped.handler;
+    }
+
+    private void onHandlerInvalidated(long pos, LazyOptional<ACCEPTOR> invalidated) {
+        listenedHandlers.remove(invalidated);
+        CachedAcceptor<ACCEPTOR> cachedAcceptor = cachedAcceptors.get(pos);
+        if (cachedAcceptor != null) {
+            //Only remove the sides that have not already been replaced with a different handler
+            cachedAcceptor.handlers.values().removeIf(handler -> handler == invalidated);
+        }
+    }
+
+    /**
+     * Resolves the handler the given acceptor exposes on the given side. Used to populate the cache backing {@link #getCachedAcceptor(long, Direction)}.
+     *
+     * @param tile Tile of the acceptor.
+     * @param side Side of the acceptor to get the handler for.
+     *
+     * @return A lazy optional of the handler, that is expected to be invalidated when the handler is no longer valid.
+     */
+    protected LazyOptional<ACCEPTOR> getAcceptorHandler(TileEntity tile, Direction side) {
+        return LazyOptional.empty();
+    }
 
-            if (directions.isEmpty()) {
-                possibleAcceptors.remove(acceptorCoord);
-                acceptorDirections.remove(acceptorCoord);
+    /**
+     * Resolves a capability of a different type that the given acceptor exposes on the given side, for when it does not expose a handler we can use directly. The
+     * capability gets turned into a handler using {@link #wrapAcceptorHandler(LazyOptional)}.
+     *
+     * @param tile Tile of the acceptor.
+     * @param side Side of the acceptor to get the capability for.
+     *
+     * @return A lazy optional of the capability to wrap, or an empty lazy optional if there is nothing to wrap.
+     */
+    protected LazyOptional<?> getWrappableAcceptorHandler(TileEntity tile, Direction side) {
+        return LazyOptional.empty();
+    }
+
+    /**
+     * Wraps a capability returned by {@link #getWrappableAcceptorHandler(TileEntity, Direction)}. This only gets called again when the wrapped capability changes.
+     *
+     * @param wrapped The capability to wrap.
+     *
+     * @return A lazy optional of the handler, that is expected to be invalidated when the wrapped capability gets invalidated.
+     */
+    protected LazyOptional<ACCEPTOR> wrapAcceptorHandler(LazyOptional<?> wrapped) {
+        return LazyOptional.empty();
+    }
+
+    private void invalidateCachedAcceptor(long pos, Direction side) {
+        CachedAcceptor<ACCEPTOR> cachedAcceptor = cachedAcceptors.get(pos);
+        if (cachedAcceptor != null) {
+            cachedAcceptor.handlers.remove(side);
+            cachedAcceptor.missingSides &= ~getSideMask(side);
+        }
+    }
+
+    /**
+     * Drops any cached acceptors that are in the given chunk, as an unloaded chunk does not necessarily invalidate the capabilities of the tiles it contains.
+     *
+     * @param chunkPos Position of the chunk that got unloaded.
+     */
+    public void onChunkUnloaded(ChunkPos chunkPos) {
+        if (!cachedAcceptors.isEmpty()) {
+            for (LongIterator iterator = cachedAcceptors.keySet().iterator(); iterator.hasNext(); ) {
+                long pos = iterator.nextLong();
+                if (BlockPos.unpackX(pos) >> 4 == chunkPos.x && BlockPos.unpackZ(pos) >> 4 == chunkPos.z) {
+                    //The tiles are gone for good, so we don't need to keep track of the listeners on their handlers anymore
+                    CachedAcceptor<ACCEPTOR> cachedAcceptor = cachedAcceptors.get(pos);
+                    listenedHandlers.removeAll(cachedAcceptor.handlers.values());
+                    for (WrappedHandler<ACCEPTOR> wrapped : cachedAcceptor.wrappedHandlers.values()) {
+                        listenedHandlers.remove(wrapped.handler);
+                    }
+                    iterator.remove();
+                }
             }
-        } else {
-            possibleAcceptors.remove(acceptorCoord);
-            acceptorDirections.remove(acceptorCoord);
         }
     }
 
@@ -167,6 +357,129 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
     }
 
+    /**
+     * Handles transmitters of this network that got removed or had their connections changed. Instead of invalidating the entire network, only the neighbourhood of the
+     * changed transmitters gets searched to see if the network actually split. Any parts that got detached are orphaned so that only they get rebuilt, and the rest of
+     * the network keeps its buffer and acceptors.
+     *
+     * @param changed The transmitters that were marked as invalid.
+     */
+    public void invalidateTransmitters(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> changed) {
+        if (isRemote() || !transmittersToAdd.isEmpty()) {
+            //If we still have transmitters waiting to be added then we don't know the full shape of the network yet, so just rebuild it
+            invalidate();
+            return;
+        }
+        LongSet changedPositions = new LongOpenHashSet();
+        List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> removed = new ArrayList<>();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : changed) {
+            long key = getPositionKey(transmitter.coord());
+            if (transmitterPositions.get(key) != transmitter) {
+                //We don't know about the transmitter, rebuild the network to be safe
+                invalidate();
+                return;
+            }
+            if (transmitter.isValid()) {
+                for (Direction side : DIRECTIONS) {
+                    Coord4D adjacent = transmitter.getAdjacentConnectableTransmitterCoord(side);
+                    if (adjacent != null && !transmitterPositions.containsKey(getPositionKey(adjacent))) {
+                        //The transmitter is now connected to one that is not part of this network, rebuild so that the networks get merged
+                        invalidate();
+                        return;
+                    }
+                    //Recheck the acceptors of the transmitter as its connections changed
+                    acceptorChanged(transmitter, side);
+                }
+            } else {
+                removed.add(transmitter);
+            }
+            changedPositions.add(key);
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : removed) {
+            removeTransmitterAndAcceptors(transmitter);
+        }
+        if (transmitters.isEmpty()) {
+            deregister();
+            return;
+        }
+        //Start searching from all our transmitters that are next to or are the changed transmitters
+        LongSet searchFrom = new LongOpenHashSet();
+        for (LongIterator iterator = changedPositions.iterator(); iterator.hasNext(); ) {
+            long key = iterator.nextLong();
+            if (transmitterPositions.containsKey(key)) {
+                searchFrom.add(key);
+            }
+            for (Direction side : DIRECTIONS) {
+                long adjacent = BlockPos.offset(key, side);
+                if (transmitterPositions.containsKey(adjacent)) {
+                    searchFrom.add(adjacent);
+                }
+            }
+        }
+        updateCapacity();
+        clampBuffer();
+        List<List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> detached = new SplitFinder(searchFrom).findDetached();
+        if (!detached.isEmpty()) {
+            //Make sure the shares are up to date before the detached transmitters take them
+            updateSaveShares();
+            for (List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> component : detached) {
+                for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : component) {
+                    removeTransmitterAndAcceptors(transmitter);
+                    invalidateTransmitter(transmitter);
+                }
+            }
+            updateCapacity();
+            clampBuffer();
+            updateSaveShares = true;
+        }
+    }
+
+    private void removeTransmitterAndAcceptors(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        long pos = getPositionKey(transmitter.coord());
+        transmitters.remove(transmitter);
+        transmittersAdded.remove(transmitter);
+        changedAcceptors.remove(transmitter);
+        transmitterPositions.remove(pos);
+        excludeFromPacketRange(transmitter.coord());
+        onTransmitterRemoved(transmitter);
+        for (Direction side : DIRECTIONS) {
+            long acceptorPos = BlockPos.offset(pos, side);
+            if (acceptorDirections.containsKey(acceptorPos)) {
+                removeAcceptorSide(acceptorPos, side.getOpposite());
+            }
+        }
+    }
+
+    /**
+     * Called when a transmitter becomes part of this network.
+     */
+    protected void onTransmitterAdded(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+    }
+
+    /**
+     * Called when a transmitter stops being part of this network. This is not called for each transmitter when the network is deregistered.
+     */
+    protected void onTransmitterRemoved(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+    }
+
+    protected static long getPositionKey(Coord4D coord) {
+        return BlockPos.pack(coord.x, coord.y, coord.z);
+    }
+
+    /**
+     * @return The bit representing the given side in the side masks of {@link #getAcceptorDirections()}.
+     */
+    public static byte getSideMask(Direction side) {
+        return (byte) (1 << side.ordinal());
+    }
+
+    /**
+     * @return {@code true} if the given side mask contains the given side.
+     */
+    public static boolean hasSide(byte sides, Direction side) {
+        return (sides & getSideMask(side)) != 0;
+    }
+
     public void acceptorChanged(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Direction side) {
         EnumSet<Direction> directions = changedAcceptors.get(transmitter);
         if (directions != null) {
@@ -182,25 +495,47 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
             transmitter.setTransmitterNetwork((NETWORK) this);
             transmitters.add(transmitter);
             transmittersAdded.add(transmitter);
+            includeInPacketRange(transmitter.coord());
+            onTransmitterAdded(transmitter);
+        }
+        transmitterPositions.putAll(net.transmitterPositions);
+        if (world == null) {
+            world = net.world;
         }
 
         transmittersToAdd.addAll(net.transmittersToAdd);
-        possibleAcceptors.addAll(net.possibleAcceptors);
-
-        for (Entry<Coord4D, EnumSet<Direction>> entry : net.acceptorDirections.entrySet()) {
-            Coord4D coord = entry.getKey();
-            if (acceptorDirections.containsKey(coord)) {
-                acceptorDirections.get(coord).addAll(entry.getValue());
-            } else {
-                acceptorDirections.put(coord, entry.getValue());
-            }
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(net.acceptorDirections)) {
+            long pos = entry.getLongKey();
+            acceptorDirections.put(pos, (byte) (acceptorDirections.get(pos) | entry.getByteValue()));
         }
         //Update the capacity
         updateCapacity();
     }
 
     public Range3D getPacketRange() {
-        return packetRange == null ? genPacketRange() : packetRange;
+        if (packetRange == null) {
+            packetRange = genPacketRange();
+        }
+        return packetRange;
+    }
+
+    /**
+     * Grows the packet range to include the given position of a transmitter that was added.
+     */
+    private void includeInPacketRange(Coord4D coord) {
+        if (packetRange != null && (coord.x < packetRange.xMin || coord.x > packetRange.xMax || coord.z < packetRange.zMin || coord.z > packetRange.zMax)) {
+            packetRange = new Range3D(Math.min(coord.x, packetRange.xMin), Math.min(coord.z, packetRange.zMin), Math.max(coord.x, packetRange.xMax),
+                  Math.max(coord.z, packetRange.zMax), packetRange.dimension);
+        }
+    }
+
+    /**
+     * Invalidates the packet range if the given position of a transmitter that was removed was on its edge, as the range may have gotten smaller.
+     */
+    private void excludeFromPacketRange(Coord4D coord) {
+        if (packetRange != null && (coord.x == packetRange.xMin || coord.x == packetRange.xMax || coord.z == packetRange.zMin || coord.z == packetRange.zMax)) {
+            packetRange = null;
+        }
     }
 
     private Range3D genPacketRange() {
@@ -242,6 +577,10 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         transmitters.clear();
         transmittersToAdd.clear();
         transmittersAdded.clear();
+        transmitterPositions.clear();
+        packetRange = null;
+        cachedAcceptors.clear();
+        listenedHandlers.clear();
 
         if (!isRemote()) {
             TransmitterNetworkRegistry.getInstance().removeNetwork(this);
@@ -255,7 +594,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public int getAcceptorSize() {
-        return possibleAcceptors.size();
+        return acceptorDirections.size();
     }
 
     /**
@@ -372,11 +711,22 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public boolean addTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
-        return transmitters.add(transmitter);
+        if (transmitters.add(transmitter)) {
+            transmitterPositions.put(getPositionKey(transmitter.coord()), transmitter);
+            includeInPacketRange(transmitter.coord());
+            onTransmitterAdded(transmitter);
+            return true;
+        }
+        return false;
     }
 
     public boolean removeTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
         boolean removed = transmitters.remove(transmitter);
+        if (removed) {
+            transmitterPositions.remove(getPositionKey(transmitter.coord()));
+            excludeFromPacketRange(transmitter.coord());
+            onTransmitterRemoved(transmitter);
+        }
         if (transmitters.isEmpty()) {
             deregister();
         }
@@ -399,11 +749,11 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return transmittersAdded;
     }
 
-    public Set<Coord4D> getPossibleAcceptors() {
-        return possibleAcceptors;
+    public LongSet getPossibleAcceptors() {
+        return acceptorDirections.keySet();
     }
 
-    public Map<Coord4D, EnumSet<Direction>> getAcceptorDirections() {
+    public Long2ByteMap getAcceptorDirections() {
         return acceptorDirections;
     }
 
@@ -435,6 +785,149 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
     }
 
+    /**
+     * Searches outwards from a set of transmitters to find which of them are no longer connected to each other. A search is started from each position and the searches
+     * are stepped in turns, merging when they meet. Once all the searches of a group have run out of transmitters to visit, that group has been detached from the rest
+     * of the network. This means the work done is bounded by the size of the detached parts rather than the size of the network.
+     */
+    private class SplitFinder {
+
+        private final Long2IntMap owners = new Long2IntOpenHashMap();
+        private final LongArrayFIFOQueue[] queues;
+        private final List<List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> visited;
+        private final int[] parents;
+        private final boolean[] detached;
+        private int remaining;
+
+        private SplitFinder(LongSet searchFrom) {
+            int searches = searchFrom.size();
+            owners.defaultReturnValue(-1);
+            queues = new LongArrayFIFOQueue[searches];
+            visited = new ArrayList<>(searches);
+            parents = new int[searches];
+            detached = new boolean[searches];
+            remaining = searches;
+            int search = 0;
+            for (LongIterator iterator = searchFrom.iterator(); iterator.hasNext(); search++) {
+                long key = iterator.nextLong();
+                parents[search] = search;
+                queues[search] = new LongArrayFIFOQueue();
+                queues[search].enqueue(key);
+                owners.put(key, search);
+                List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> found = new ArrayList<>();
+                found.add(transmitterPositions.get(key));
+                visited.add(found);
+            }
+        }
+
+        private int find(int search) {
+            while (parents[search] != search) {
+                parents[search] = parents[parents[search]];
+                search = parents[search];
+            }
+            return search;
+        }
+
+        private List<List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> findDetached() {
+            if (remaining <= 1) {
+                return Collections.emptyList();
+            }
+            List<List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> components = new ArrayList<>();
+            while (remaining > 1) {
+                for (int search = 0; search < queues.length && remaining > 1; search++) {
+                    if (!queues[search].isEmpty()) {
+                        step(search);
+                    }
+                }
+                //Check if any groups of searches have run out of transmitters to visit
+                for (int root = 0; root < queues.length && remaining > 1; root++) {
+                    if (parents[root] == root && !detached[root] && isExhausted(root)) {
+                        detached[root] = true;
+                        remaining--;
+                        List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> component = new ArrayList<>();
+                        for (int search = 0; search < queues.length; search++) {
+                            if (find(search) == root) {
+                                component.addAll(visited.get(search));
+                            }
+                        }
+                        components.add(component);
+                    }
+                }
+            }
+            return components;
+        }
+
+        private boolean isExhausted(int root) {
+            for (int search = 0; search < queues.length; search++) {
+                if (!queues[search].isEmpty() && find(search) == root) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void step(int search) {
+            long key = queues[search].dequeueLong();
+            IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = transmitterPositions.get(key);
+            for (Direction side : DIRECTIONS) {
+                long adjacentKey = BlockPos.offset(key, side);
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> adjacent = transmitterPositions.get(adjacentKey);
+                if (adjacent == null) {
+                    continue;
+                }
+                int owner = owners.get(adjacentKey);
+                if (owner == -1) {
+                    if (isConnected(transmitter, side, adjacent)) {
+                        owners.put(adjacentKey, search);
+                        queues[search].enqueue(adjacentKey);
+                        visited.get(search).add(adjacent);
+                    }
+                } else {
+                    int root = find(search);
+                    int otherRoot = find(owner);
+                    if (root != otherRoot && isConnected(transmitter, side, adjacent)) {
+                        //The searches met, so they are part of the same group
+                        parents[otherRoot] = root;
+                        remaining--;
+                    }
+                }
+            }
+        }
+
+        private boolean isConnected(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Direction side, IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> adjacent) {
+            return transmitter.getAdjacentConnectableTransmitterCoord(side) != null && transmitter.isCompatibleWith(adjacent);
+        }
+    }
+
+    private static class CachedAcceptor<ACCEPTOR> {
+
+        private final Map<Direction, LazyOptional<ACCEPTOR>> handlers = new EnumMap<>(Direction.class);
+        /**
+         * Wrappers we made for the sides that expose a capability we need to wrap. These are kept when the acceptor changes so that they can be reused.
+         */
+        private final Map<Direction, WrappedHandler<ACCEPTOR>> wrappedHandlers = new EnumMap<>(Direction.class);
+        private final TileEntity tile;
+        /**
+         * Bitmask of the sides we know do not expose a handler.
+         */
+        private byte missingSides;
+
+        private CachedAcceptor(TileEntity tile) {
+            this.tile = tile;
+        }
+    }
+
+    private static class WrappedHandler<ACCEPTOR> {
+
+        private final LazyOptional<?> source;
+        private final LazyOptional<ACCEPTOR> handler;
+
+        private WrappedHandler(LazyOptional<?> source, LazyOptional<ACCEPTOR> handler) {
+            this.source = source;
+            this.handler = handler;
+        }
+    }
+
     public static class DelayQueue {
 
         public PlayerEntity player;
@@ -1,18 +1,32 @@
 package mekanism.api.transmitters;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent.Phase;
-import net.minecraftforge.event.TickEvent.ServerTickEvent;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,11 +41,10 @@ public class TransmitterNetworkRegistry {
     private static TransmitterNetworkRegistry INSTANCE = new TransmitterNetworkRegistry();
     private static boolean loaderRegistered = false;
     private static Logger logger = LogManager.getLogger("MekanismTransmitters");
-    private Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
-    private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
-    private Set<IGridTransmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
-    private Map<Coord4D, IGridTransmitter<?, ?, ?>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
-    private Map<Coord4D, IGridTransmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+    /**
+     * Networks and their pending changes, partitioned by the dimension they are in so that each dimension's networks are handled from that world's own tick.
+     */
+    private Map<DimensionType, DimensionNetworks> dimensions = new Object2ObjectOpenHashMap<>();
 
     public static void initiate() {
         if (!loaderRegistered) {
@@ -41,97 +54,108 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void reset() {
-        getInstance().networks.clear();
-        getInstance().networksToChange.clear();
-        getInstance().invalidTransmitters.clear();
-        getInstance().orphanTransmitters.clear();
-        getInstance().newOrphanTransmitters.clear();
+        getInstance().dimensions.clear();
     }
 
     public static void invalidateTransmitter(IGridTransmitter<?, ?, ?> transmitter) {
-        getInstance().invalidTransmitters.add(transmitter);
+        getInstance().getDimension(transmitter.coord().dimension).invalidTransmitters.add(transmitter);
     }
 
     public static void registerOrphanTransmitter(IGridTransmitter<?, ?, ?> transmitter) {
         Coord4D coord = transmitter.coord();
-        IGridTransmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.put(coord, transmitter);
+        IGridTransmitter<?, ?, ?> previous = getInstance().getDimension(coord.dimension).newOrphanTransmitters.put(DynamicNetwork.getPositionKey(coord), transmitter);
         if (previous != null && previous != transmitter) {
             logger.error("Different orphan transmitter was already registered at location! {}", coord.toString());
         }
     }
 
     public static void registerChangedNetwork(DynamicNetwork<?, ?, ?> network) {
-        getInstance().networksToChange.add(network);
+        DimensionNetworks dimensionNetworks = getInstance().getDimension(network);
+        if (dimensionNetworks != null) {
+            dimensionNetworks.networksToChange.add(network);
+        }
     }
 
     public static TransmitterNetworkRegistry getInstance() {
         return INSTANCE;
     }
 
-    public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.add(network);
+    private DimensionNetworks getDimension(DimensionType dimension) {
+        return dimensions.computeIfAbsent(dimension, type -> new DimensionNetworks());
     }
 
-    public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.remove(network);
-        networksToChange.remove(network);
+    @Nullable
+    private DimensionNetworks getDimension(DynamicNetwork<?, ?, ?> network) {
+        World world = network.getWorld();
+        if (world == null) {
+            logger.error("Network has no world, unable to determine which dimension it belongs to: {}", network);
+            return null;
+        }
+        return getDimension(world.getDimension().getType());
     }
 
-    @SubscribeEvent
-    public void onTick(ServerTickEvent event) {
-        if (event.phase == Phase.END && event.side.isServer()) {
-            tickEnd();
+    public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
+        DimensionNetworks dimensionNetworks = getDimension(network);
+        if (dimensionNetworks != null) {
+            dimensionNetworks.networks.add(network);
         }
     }
 
-    public void tickEnd() {
-        removeInvalidTransmitters();
-        assignOrphans();
-        commitChanges();
-        for (DynamicNetwork<?, ?, ?> net : networks) {
-            net.tick();
+    public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
+        World world = network.getWorld();
+        if (world == null) {
+            //We don't know which dimension the network was in, so make sure it is removed from all of them
+            for (DimensionNetworks dimensionNetworks : dimensions.values()) {
+                dimensionNetworks.removeNetwork(network);
+            }
+        } else {
+            DimensionNetworks dimensionNetworks = dimensions.get(world.getDimension().getType());
+            if (dimensionNetworks != null) {
+                dimensionNetworks.removeNetwork(network);
+            }
         }
     }
 
-    public void removeInvalidTransmitters() {
-        if (MekanismAPI.debug && !invalidTransmitters.isEmpty()) {
-            logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
+    @SubscribeEvent
+    public void onTick(WorldTickEvent event) {
+        if (event.phase == Phase.END && event.side.isServer()) {
+            DimensionNetworks dimensionNetworks = dimensions.get(event.world.getDimension().getType());
+            if (dimensionNetworks != null) {
+                dimensionNetworks.tickEnd();
+            }
         }
+    }
 
-        for (IGridTransmitter<?, ?, ?> invalid : invalidTransmitters) {
-            if (!(invalid.isOrphan() && invalid.isValid())) {
-                DynamicNetwork<?, ?, ?> n = invalid.getTransmitterNetwork();
-                if (n != null) {
-                    n.invalidate();
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        IWorld world = event.getWorld();
+        if (world != null && !world.isRemote()) {
+            DimensionNetworks dimensionNetworks = dimensions.get(world.getDimension().getType());
+            if (dimensionNetworks != null) {
+                ChunkPos chunkPos = event.getChunk().getPos();
+                for (DynamicNetwork<?, ?, ?> net : dimensionNetworks.networks) {
+                    if (net.getWorld() == world) {
+                        net.onChunkUnloaded(chunkPos);
+                    }
                 }
             }
         }
-
-        invalidTransmitters.clear();
     }
 
-    public void assignOrphans() {
-        orphanTransmitters = new Object2ObjectOpenHashMap<>(newOrphanTransmitters);
-        newOrphanTransmitters.clear();
-
-        if (MekanismAPI.debug && !orphanTransmitters.isEmpty()) {
-            logger.info("Dealing with " + orphanTransmitters.size() + " orphan Transmitters");
-        }
-
-        for (IGridTransmitter<?, ?, ?> orphanTransmitter : new Object2ObjectOpenHashMap<>(orphanTransmitters).values()) {
-            DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(orphanTransmitter);
-            if (network != null) {
-                networksToChange.add(network);
-                network.register();
-            }
+    public void tickEnd() {
+        for (DimensionNetworks dimensionNetworks : dimensions.values()) {
+            dimensionNetworks.tickEnd();
         }
-
-        orphanTransmitters.clear();
     }
 
     public <A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> DynamicNetwork<A, N, BUFFER> getNetworkFromOrphan(IGridTransmitter<A, N, BUFFER> startOrphan) {
+        return getNetworkFromOrphan(startOrphan, getDimension(startOrphan.coord().dimension).orphanTransmitters);
+    }
+
+    private <A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> DynamicNetwork<A, N, BUFFER> getNetworkFromOrphan(IGridTransmitter<A, N, BUFFER> startOrphan,
+          Long2ObjectMap<IGridTransmitter<?, ?, ?>> orphanTransmitters) {
         if (startOrphan.isValid() && startOrphan.isOrphan()) {
-            OrphanPathFinder<A, N, BUFFER> finder = new OrphanPathFinder<>(startOrphan);
+            OrphanPathFinder<A, N, BUFFER> finder = new OrphanPathFinder<>(startOrphan, orphanTransmitters);
             finder.start();
             N network;
 
@@ -168,43 +192,120 @@ public class TransmitterNetworkRegistry {
         return null;
     }
 
-    public void commitChanges() {
-        for (DynamicNetwork<?, ?, ?> network : networksToChange) {
-            network.commit();
-        }
-        networksToChange.clear();
-    }
-
     @Override
     public String toString() {
-        return "Network Registry:\n" + networks;
+        StringBuilder builder = new StringBuilder("Network Registry:\n");
+        for (DimensionNetworks dimensionNetworks : dimensions.values()) {
+            builder.append(dimensionNetworks.networks);
+        }
+        return builder.toString();
     }
 
     public ITextComponent[] toComponents() {
-        ITextComponent[] components = new ITextComponent[networks.size()];
-        int i = 0;
+        List<ITextComponent> components = new ArrayList<>();
+        for (DimensionNetworks dimensionNetworks : dimensions.values()) {
+            for (DynamicNetwork<?, ?, ?> network : dimensionNetworks.networks) {
+                components.add(network.getTextComponent());
+            }
+        }
+        return components.toArray(new ITextComponent[0]);
+    }
+
+    /**
+     * Holds the networks of a single dimension along with the transmitters and networks that are waiting to be handled at the end of that dimension's tick.
+     */
+    private class DimensionNetworks {
+
+        private Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
+        private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+        private Set<IGridTransmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
+        /**
+         * Orphaned transmitters keyed by their position packed using {@link net.minecraft.util.math.BlockPos#toLong()}, as all the transmitters are in the same
+         * dimension.
+         */
+        private Long2ObjectMap<IGridTransmitter<?, ?, ?>> orphanTransmitters = new Long2ObjectOpenHashMap<>();
+        private Long2ObjectMap<IGridTransmitter<?, ?, ?>> newOrphanTransmitters = new Long2ObjectOpenHashMap<>();
+
+        private void removeNetwork(DynamicNetwork<?, ?, ?> network) {
+            networks.remove(network);
+            networksToChange.remove(network);
+        }
 
-        for (DynamicNetwork<?, ?, ?> network : networks) {
-            components[i++] = network.getTextComponent();
+        private void tickEnd() {
+            removeInvalidTransmitters();
+            assignOrphans();
+            commitChanges();
+            for (DynamicNetwork<?, ?, ?> net : networks) {
+                net.tick();
+            }
+        }
+
+        private void removeInvalidTransmitters() {
+            if (MekanismAPI.debug && !invalidTransmitters.isEmpty()) {
+                logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
+            }
+
+            Map<DynamicNetwork<?, ?, ?>, List<IGridTransmitter<?, ?, ?>>> changedNetworks = new Object2ObjectOpenHashMap<>();
+            for (IGridTransmitter<?, ?, ?> invalid : invalidTransmitters) {
+                if (!(invalid.isOrphan() && invalid.isValid())) {
+                    DynamicNetwork<?, ?, ?> n = invalid.getTransmitterNetwork();
+                    if (n != null) {
+                        changedNetworks.computeIfAbsent(n, network -> new ArrayList<>()).add(invalid);
+                    }
+                }
+            }
+            for (Entry<DynamicNetwork<?, ?, ?>, List<IGridTransmitter<?, ?, ?>>> entry : changedNetworks.entrySet()) {
+                ((DynamicNetwork) entry.getKey()).invalidateTransmitters((Collection) entry.getValue());
+            }
+
+            invalidTransmitters.clear();
+        }
+
+        private void assignOrphans() {
+            orphanTransmitters = new Long2ObjectOpenHashMap<>(newOrphanTransmitters);
+            newOrphanTransmitters.clear();
+
+            if (MekanismAPI.debug && !orphanTransmitters.isEmpty()) {
+                logger.info("Dealing with " + orphanTransmitters.size() + " orphan Transmitters");
+            }
+
+            for (IGridTransmitter<?, ?, ?> orphanTransmitter : new ArrayList<>(orphanTransmitters.values())) {
+                DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(orphanTransmitter, orphanTransmitters);
+                if (network != null) {
+                    networksToChange.add(network);
+                    network.register();
+                }
+            }
+
+            orphanTransmitters.clear();
+        }
+
+        private void commitChanges() {
+            for (DynamicNetwork<?, ?, ?> network : networksToChange) {
+                network.commit();
+            }
+            networksToChange.clear();
         }
-        return components;
     }
 
     public class OrphanPathFinder<A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> {
 
         public IGridTransmitter<A, N, BUFFER> startPoint;
 
-        public Set<Coord4D> iterated = new ObjectOpenHashSet<>();
+        public LongSet iterated = new LongOpenHashSet();
 
         public Set<IGridTransmitter<A, N, BUFFER>> connectedTransmitters = new ObjectOpenHashSet<>();
         public Set<N> networksFound = new ObjectOpenHashSet<>();
 
-        private Deque<Coord4D> queue = new LinkedList<>();
+        private Deque<Coord4D> queue = new ArrayDeque<>();
 
         public boolean someNetworksFailed;
 
-        public OrphanPathFinder(IGridTransmitter<A, N, BUFFER> start) {
+        private final Long2ObjectMap<IGridTransmitter<?, ?, ?>> orphanTransmitters;
+
+        public OrphanPathFinder(IGridTransmitter<A, N, BUFFER> start, Long2ObjectMap<IGridTransmitter<?, ?, ?>> orphanTransmitters) {
             startPoint = start;
+            this.orphanTransmitters = orphanTransmitters;
         }
 
         public void start() {
@@ -219,15 +320,13 @@ public class TransmitterNetworkRegistry {
         }
 
         public void iterate(Coord4D from) {
-            if (iterated.contains(from)) {
+            long pos = DynamicNetwork.getPositionKey(from);
+            if (!iterated.add(pos)) {
                 return;
             }
 
-            iterated.add(from);
-
-            if (orphanTransmitters.containsKey(from)) {
-                IGridTransmitter<A, N, BUFFER> transmitter = (IGridTransmitter<A, N, BUFFER>) orphanTransmitters.get(from);
-
+            IGridTransmitter<A, N, BUFFER> transmitter = (IGridTransmitter<A, N, BUFFER>) orphanTransmitters.get(pos);
+            if (transmitter != null) {
                 if (transmitter.isValid() && transmitter.isOrphan() &&
                     (connectedTransmitters.isEmpty() || connectedTransmitters.stream().anyMatch(existing -> existing.isCompatibleWith(transmitter)))) {
                     connectedTransmitters.add(transmitter);
@@ -238,7 +337,7 @@ public class TransmitterNetworkRegistry {
                             continue;
                         }
                         Coord4D directionCoord = transmitter.getAdjacentConnectableTransmitterCoord(direction);
-                        if (directionCoord != null && !iterated.contains(directionCoord)) {
+                        if (directionCoord != null && !iterated.contains(DynamicNetwork.getPositionKey(directionCoord))) {
                             queue.addLast(directionCoord);
                         }
                     }
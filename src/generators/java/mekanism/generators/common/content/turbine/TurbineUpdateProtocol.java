@@ -1,5 +1,6 @@
 package mekanism.generators.common.content.turbine;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
 import java.util.Set;
@@ -37,7 +38,7 @@ public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineDat
 
     @Override
     protected boolean isValidFrame(int x, int y, int z) {
-        return BlockTypeTile.is(pointer.getWorld().getBlockState(new BlockPos(x, y, z)).getBlock(), GeneratorsBlockTypes.TURBINE_CASING, GeneratorsBlockTypes.TURBINE_VALVE, GeneratorsBlockTypes.TURBINE_VENT);
+        return BlockTypeTile.is(getBlockState(x, y, z).getBlock(), GeneratorsBlockTypes.TURBINE_CASING, GeneratorsBlockTypes.TURBINE_VALVE, GeneratorsBlockTypes.TURBINE_VENT);
     }
 
     @Override
@@ -45,7 +46,7 @@ public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineDat
         if (super.isValidInnerNode(x, y, z)) {
             return true;
         }
-        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), new BlockPos(x, y, z));
+        TileEntity tile = getTileEntity(x, y, z);
         return tile instanceof TileEntityTurbineRotor || tile instanceof TileEntityRotationalComplex || tile instanceof TileEntityPressureDisperser ||
                tile instanceof TileEntityElectromagneticCoil || tile instanceof TileEntitySaturatingCondenser;
     }
@@ -70,8 +71,10 @@ public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineDat
         Set<Coord4D> condensers = new ObjectOpenHashSet<>();
 
         //Scan for complex
-        for (Coord4D coord : innerNodes) {
-            TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), coord.getPos());
+        for (LongIterator iterator = innerNodes.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            TileEntity tile = getTileEntity(pos);
+            Coord4D coord = getCoord(pos);
             if (tile instanceof TileEntityRotationalComplex) {
                 if (complex != null || coord.x != centerX || coord.z != centerZ) {
                     return false;
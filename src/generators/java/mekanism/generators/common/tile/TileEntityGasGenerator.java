@@ -9,6 +9,7 @@ import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IMekanismGasHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.MathUtils;
 import mekanism.api.inventory.AutomationType;
 import mekanism.common.FuelHandler;
 import mekanism.common.FuelHandler.FuelGas;
@@ -117,7 +118,7 @@ public class TileEntityGasGenerator extends TileEntityGenerator {
         }
         int max = (int) Math.ceil(256F * (fuelTank.getStored() / (float) fuelTank.getCapacity()));
         max = Math.min(maxBurnTicks * fuelTank.getStored() + burnTicks, max);
-        max = Math.min(getEnergyContainer().getNeeded().divide(generationRate).intValue(), max);
+        max = Math.min(MathUtils.clampUnsignedToInt(getEnergyContainer().getNeeded().divideToUnsignedLong(generationRate)), max);
         return max;
     }
 
@@ -3,9 +3,11 @@ package mekanism.client;
 import java.util.function.Supplier;
 import mekanism.api.Coord4D;
 import mekanism.api.text.EnumColor;
+import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.client.SparkleAnimation.INodeChecker;
 import mekanism.client.gui.GuiPortableTeleporter;
 import mekanism.client.render.RenderTickHandler;
+import mekanism.client.render.transmitter.TransmitterContentsBatcher;
 import mekanism.client.sound.SoundHandler;
 import mekanism.common.CommonProxy;
 import mekanism.common.HolidayManager;
@@ -62,6 +64,16 @@ public class ClientProxy extends CommonProxy {
         }
     }
 
+    @Override
+    public void onTransmitterContentsChanged(BlockPos pos) {
+        TransmitterContentsBatcher.markDirty(pos);
+    }
+
+    @Override
+    public void onNetworkContentsChanged(DynamicNetwork<?, ?, ?> network) {
+        TransmitterContentsBatcher.markDirty(network);
+    }
+
     @Override
     public void doMultiblockSparkle(TileEntity tile, BlockPos renderLoc, int length, int width, int height, INodeChecker checker) {
         doSparkle(tile, new SparkleAnimation(tile, renderLoc, length, width, height, checker));
@@ -81,6 +93,8 @@ public class ClientProxy extends CommonProxy {
         MinecraftForge.EVENT_BUS.register(new ClientTickHandler());
         MinecraftForge.EVENT_BUS.register(new RenderTickHandler());
         MinecraftForge.EVENT_BUS.register(SoundHandler.class);
+        MinecraftForge.EVENT_BUS.addListener(TransmitterContentsBatcher::render);
+        MinecraftForge.EVENT_BUS.addListener(TransmitterContentsBatcher::onWorldUnload);
 
         new MekanismKeyHandler();
 
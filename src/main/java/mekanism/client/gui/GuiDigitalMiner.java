@@ -1,7 +1,6 @@
 package mekanism.client.gui;
 
 import java.util.ArrayList;
-import mekanism.api.TileNetworkList;
 import mekanism.api.math.FloatingLong;
 import mekanism.api.text.EnumColor;
 import mekanism.client.gui.element.GuiEnergyInfo;
@@ -70,19 +69,19 @@ public class GuiDigitalMiner extends GuiMekanismTile<TileEntityDigitalMiner, Mek
             return ret;
         }, this));
         addButton(startButton = new TranslationButton(this, getGuiLeft() + 69, getGuiTop() + 17, 60, 20, MekanismLang.BUTTON_START,
-              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(3)))));
+              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> buffer.writeInt(3)))));
         addButton(stopButton = new TranslationButton(this, getGuiLeft() + 69, getGuiTop() + 37, 60, 20, MekanismLang.BUTTON_STOP,
-              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(4)))));
+              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> buffer.writeInt(4)))));
         addButton(configButton = new TranslationButton(this, getGuiLeft() + 69, getGuiTop() + 57, 60, 20, MekanismLang.BUTTON_CONFIG,
               () -> Mekanism.packetHandler.sendToServer(new PacketGuiButtonPress(ClickedTileButton.DIGITAL_MINER_CONFIG, tile.getPos()))));
         addButton(new MekanismImageButton(this, getGuiLeft() + 131, getGuiTop() + 47, 14, getButtonLocation("reset"),
-              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(5))), getOnHover(MekanismLang.MINER_RESET)));
+              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> buffer.writeInt(5))), getOnHover(MekanismLang.MINER_RESET)));
         addButton(new MekanismImageButton(this, getGuiLeft() + 131, getGuiTop() + 63, 14, getButtonLocation("silk_touch"),
-              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(9))), getOnHover(MekanismLang.MINER_SILK)));
+              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> buffer.writeInt(9))), getOnHover(MekanismLang.MINER_SILK)));
         addButton(new MekanismImageButton(this, getGuiLeft() + 147, getGuiTop() + 47, 14, getButtonLocation("auto_eject"),
-              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(0))), getOnHover(MekanismLang.AUTO_EJECT)));
+              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> buffer.writeInt(0))), getOnHover(MekanismLang.AUTO_EJECT)));
         addButton(new MekanismImageButton(this, getGuiLeft() + 147, getGuiTop() + 63, 14, getButtonLocation("auto_pull"),
-              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(1))), getOnHover(MekanismLang.AUTO_PULL)));
+              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> buffer.writeInt(1))), getOnHover(MekanismLang.AUTO_PULL)));
         updateEnabledButtons();
     }
 
@@ -3,7 +3,6 @@ package mekanism.client.gui;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import mekanism.api.TileNetworkList;
 import mekanism.client.gui.element.GuiInnerScreen;
 import mekanism.client.gui.element.button.MekanismImageButton;
 import mekanism.client.gui.element.button.TranslationButton;
@@ -51,14 +50,20 @@ public class GuiDigitalMinerConfig extends GuiFilterHolder<MinerFilter<?>, TileE
     @Override
     protected void upButtonPress(int index) {
         if (index > 0) {
-            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(11, index)));
+            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> {
+                buffer.writeInt(11);
+                buffer.writeInt(index);
+            }));
         }
     }
 
     @Override
     protected void downButtonPress(int index) {
         if (index < getFilters().size() - 1) {
-            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(12, index)));
+            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> {
+                buffer.writeInt(12);
+                buffer.writeInt(index);
+            }));
         }
     }
 
@@ -76,7 +81,7 @@ public class GuiDigitalMinerConfig extends GuiFilterHolder<MinerFilter<?>, TileE
         addButton(new MekanismImageButton(this, getGuiLeft() + 39, getGuiTop() + 92, 11, 12, getButtonLocation("checkmark"), this::setMinY));
         addButton(new MekanismImageButton(this, getGuiLeft() + 39, getGuiTop() + 117, 11, 12, getButtonLocation("checkmark"), this::setMaxY));
         addButton(new MekanismImageButton(this, getGuiLeft() + 11, getGuiTop() + 141, 14, getButtonLocation("strict_input"),
-              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(10))), getOnHover(MekanismLang.MINER_INVERSE)));
+              () -> Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> buffer.writeInt(10))), getOnHover(MekanismLang.MINER_INVERSE)));
         addButton(radiusField = new TextFieldWidget(font, getGuiLeft() + 12, getGuiTop() + 67, 26, 11, ""));
         radiusField.setMaxStringLength(Integer.toString(MekanismConfig.general.digitalMinerMaxRadius.get()).length());
         addButton(minField = new TextFieldWidget(font, getGuiLeft() + 12, getGuiTop() + 92, 26, 11, ""));
@@ -171,7 +176,10 @@ public class GuiDigitalMinerConfig extends GuiFilterHolder<MinerFilter<?>, TileE
     private void setRadius() {
         if (!radiusField.getText().isEmpty()) {
             int toUse = Math.max(0, Math.min(Integer.parseInt(radiusField.getText()), MekanismConfig.general.digitalMinerMaxRadius.get()));
-            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(6, toUse)));
+            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> {
+                buffer.writeInt(6);
+                buffer.writeInt(toUse);
+            }));
             radiusField.setText("");
         }
     }
@@ -179,7 +187,10 @@ public class GuiDigitalMinerConfig extends GuiFilterHolder<MinerFilter<?>, TileE
     private void setMinY() {
         if (!minField.getText().isEmpty()) {
             int toUse = Math.max(0, Math.min(Integer.parseInt(minField.getText()), tile.getMaxY()));
-            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(7, toUse)));
+            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> {
+                buffer.writeInt(7);
+                buffer.writeInt(toUse);
+            }));
             minField.setText("");
         }
     }
@@ -187,7 +198,10 @@ public class GuiDigitalMinerConfig extends GuiFilterHolder<MinerFilter<?>, TileE
     private void setMaxY() {
         if (!maxField.getText().isEmpty()) {
             int toUse = Math.max(tile.getMinY(), Math.min(Integer.parseInt(maxField.getText()), 255));
-            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, TileNetworkList.withContents(8, toUse)));
+            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> {
+                buffer.writeInt(8);
+                buffer.writeInt(toUse);
+            }));
             maxField.setText("");
         }
     }
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import javax.annotation.Nonnull;
-import mekanism.api.TileNetworkList;
 import mekanism.api.text.EnumColor;
 import mekanism.client.gui.element.GuiInnerScreen;
 import mekanism.client.gui.element.GuiRedstoneControl;
@@ -81,8 +80,11 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter, Mekanis
             int selection = scrollList.getSelection();
             if (selection != -1) {
                 Frequency freq = privateMode ? tile.privateCache.get(selection) : tile.publicCache.get(selection);
-                TileNetworkList data = TileNetworkList.withContents(1, freq.name, freq.publicFreq);
-                Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, data));
+                Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> {
+                    buffer.writeInt(1);
+                    buffer.writeString(freq.name);
+                    buffer.writeBoolean(freq.publicFreq);
+                }));
                 scrollList.clearSelection();
             }
             updateButtons();
@@ -214,8 +216,12 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter, Mekanis
 
     public void setFrequency(String freq) {
         if (!freq.isEmpty()) {
-            TileNetworkList data = TileNetworkList.withContents(0, freq, !privateMode);
-            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, data));
+            boolean isPublic = !privateMode;
+            Mekanism.packetHandler.sendToServer(new PacketTileEntity(tile, buffer -> {
+                buffer.writeInt(0);
+                buffer.writeString(freq);
+                buffer.writeBoolean(isPublic);
+            }));
         }
     }
 }
\ No newline at end of file
@@ -284,6 +284,7 @@ public class MekanismRenderer {
     public static void onModelBake(ModelBakeEvent event) {
         try {
             contentsModel = OBJLoader.INSTANCE.loadModel(new ModelSettings(RenderTransmitterBase.MODEL_LOCATION, true, false, true, true, null));
+            RenderTransmitterBase.onModelBake();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -63,6 +63,12 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         torchOnIcon = map.getSprite(new ResourceLocation("minecraft", "block/redstone_torch"));
     }
 
+    @Override
+    protected boolean canBatch() {
+        //The stacks in transporters move every frame
+        return false;
+    }
+
     @Override
     protected void render(TileEntityLogisticalTransporter transporter, float partialTick, MatrixStack matrix, IRenderTypeBuffer renderer, int light, int overlayLight,
           IProfiler profiler) {
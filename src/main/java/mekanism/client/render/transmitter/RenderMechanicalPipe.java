@@ -5,8 +5,6 @@ import com.mojang.blaze3d.vertex.IVertexBuilder;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import java.util.ArrayList;
-import java.util.List;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mekanism.client.render.FluidRenderMap;
@@ -62,7 +60,7 @@ public class RenderMechanicalPipe extends RenderTransmitterBase<TileEntityMechan
                 }
                 int glow = MekanismRenderer.calculateGlowLight(light, fluidStack);
                 int color = MekanismRenderer.getColorARGB(fluidStack, fluidScale);
-                List<String> connectionContents = new ArrayList<>();
+                int connectionContents = 0;
                 Model3D model = getModel(null, fluidStack, stage);
                 IVertexBuilder buffer = renderer.getBuffer(MekanismRenderType.resizableCuboid());
                 for (Direction side : EnumUtils.DIRECTIONS) {
@@ -70,17 +68,17 @@ public class RenderMechanicalPipe extends RenderTransmitterBase<TileEntityMechan
                     if (connectionType == ConnectionType.NORMAL) {
                         MekanismRenderer.renderObject(getModel(side, fluidStack, stage), matrix, buffer, color, glow);
                     } else if (connectionType != ConnectionType.NONE) {
-                        connectionContents.add(side.getName() + connectionType.getName().toUpperCase());
+                        connectionContents |= getPartMask(side, connectionType);
                     }
                     if (model != null) {
                         model.setSideRender(side, connectionType == ConnectionType.NONE);
                     }
                 }
                 MekanismRenderer.renderObject(model, matrix, buffer, MekanismRenderer.getColorARGB(fluidStack, fluidScale), glow);
-                if (!connectionContents.isEmpty()) {
+                if (connectionContents != 0) {
                     matrix.push();
                     matrix.translate(0.5, 0.5, 0.5);
-                    renderModel(pipe, matrix, renderer.getBuffer(MekanismRenderType.transmitterContents(AtlasTexture.LOCATION_BLOCKS_TEXTURE)),
+                    renderModel(matrix, renderer.getBuffer(MekanismRenderType.transmitterContents(AtlasTexture.LOCATION_BLOCKS_TEXTURE)),
                           MekanismRenderer.getRed(color), MekanismRenderer.getGreen(color), MekanismRenderer.getBlue(color), MekanismRenderer.getAlpha(color), glow,
                           overlayLight, MekanismRenderer.getFluidTexture(fluidStack, FluidType.STILL), connectionContents);
                     matrix.pop();
@@ -3,15 +3,18 @@ package mekanism.client.render.transmitter;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.matrix.MatrixStack.Entry;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
-import java.util.Arrays;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.client.render.obj.ContentsModelConfiguration;
 import mekanism.client.render.obj.VisibleModelConfiguration;
 import mekanism.client.render.tileentity.MekanismTileEntityRenderer;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.transmitter.TileEntitySidedPipe.ConnectionType;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
@@ -24,43 +27,115 @@ import net.minecraft.client.renderer.model.ItemOverrideList;
 import net.minecraft.client.renderer.model.ModelRotation;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
+import net.minecraft.util.Direction;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.client.model.IModelConfiguration;
 import net.minecraftforge.client.model.ModelLoader;
+import net.minecraftforge.client.model.data.EmptyModelData;
 
 @ParametersAreNonnullByDefault
 public abstract class RenderTransmitterBase<T extends TileEntityTransmitter<?, ?, ?>> extends MekanismTileEntityRenderer<T> {
 
     public static final ResourceLocation MODEL_LOCATION = MekanismUtils.getResource(ResourceType.MODEL, "transmitter_contents.obj");
     private static final IModelConfiguration contentsConfiguration = new ContentsModelConfiguration();
+    /**
+     * Maximum number of sprites to keep baked contents for, once reached the contents of the least recently used sprite get evicted.
+     */
+    private static final int MAX_CACHED_SPRITES = 64;
+    private static final int BITS_PER_SIDE = 3;
+    /**
+     * Baked contents quads by sprite and then by the mask of visible parts.
+     */
+    private static final Object2ObjectLinkedOpenHashMap<TextureAtlasSprite, Int2ObjectMap<List<BakedQuad>>> cachedContents = new Object2ObjectLinkedOpenHashMap<>();
 
     protected RenderTransmitterBase(TileEntityRendererDispatcher renderer) {
         super(renderer);
     }
 
+    public static void onModelBake() {
+        cachedContents.clear();
+    }
+
+    /**
+     * @return Mask marking the contents part of the given side with the given connection type as visible, combine the masks of the different sides with {@code |}.
+     */
+    protected static int getPartMask(Direction side, ConnectionType connectionType) {
+        return (connectionType.ordinal() + 1) << (side.ordinal() * BITS_PER_SIDE);
+    }
+
     protected void renderModel(T transmitter, MatrixStack matrix, IVertexBuilder builder, int rgb, float alpha, int light, int overlayLight, TextureAtlasSprite icon) {
-        renderModel(transmitter, matrix, builder, MekanismRenderer.getRed(rgb), MekanismRenderer.getGreen(rgb), MekanismRenderer.getBlue(rgb), alpha, light, overlayLight, icon,
-              Arrays.stream(EnumUtils.DIRECTIONS).map(side -> side.getName() + transmitter.getConnectionType(side).getName().toUpperCase()).collect(Collectors.toList()));
+        int visibleParts = 0;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            visibleParts |= getPartMask(side, transmitter.getConnectionType(side));
+        }
+        renderModel(matrix, builder, MekanismRenderer.getRed(rgb), MekanismRenderer.getGreen(rgb), MekanismRenderer.getBlue(rgb), alpha, light, overlayLight, icon,
+              visibleParts);
     }
 
-    protected void renderModel(T transmitter, MatrixStack matrix, IVertexBuilder builder, float red, float green, float blue, float alpha, int light, int overlayLight,
-          TextureAtlasSprite icon, List<String> visible) {
-        if (!visible.isEmpty()) {
-            //TODO: Can we somehow cache any of this method
-            IBakedModel bakedModel = MekanismRenderer.contentsModel.bake(new VisibleModelConfiguration(contentsConfiguration, visible), ModelLoader.instance(),
-                  material -> icon, ModelRotation.X0_Y0, ItemOverrideList.EMPTY, MODEL_LOCATION);
+    /**
+     * @param visibleParts Mask of the contents parts to render, see {@link #getPartMask(Direction, ConnectionType)}.
+     */
+    protected void renderModel(MatrixStack matrix, IVertexBuilder builder, float red, float green, float blue, float alpha, int light, int overlayLight,
+          TextureAtlasSprite icon, int visibleParts) {
+        if (visibleParts != 0) {
             Entry entry = matrix.getLast();
-            //Get all the sides
-            for (BakedQuad quad : bakedModel.getQuads(transmitter.getBlockState(), null, Minecraft.getInstance().world.getRandom(), transmitter.getModelData())) {
+            for (BakedQuad quad : getContentsQuads(icon, visibleParts)) {
                 builder.addVertexData(entry, quad, red, green, blue, alpha, light, overlayLight);
             }
         }
     }
 
+    private static List<BakedQuad> getContentsQuads(TextureAtlasSprite icon, int visibleParts) {
+        Int2ObjectMap<List<BakedQuad>> spriteContents = cachedContents.getAndMoveToLast(icon);
+        if (spriteContents == null) {
+            if (cachedContents.size() >= MAX_CACHED_SPRITES) {
+                cachedContents.removeFirst();
+            }
+            spriteContents = new Int2ObjectOpenHashMap<>();
+            cachedContents.put(icon, spriteContents);
+        }
+        List<BakedQuad> quads = spriteContents.get(visibleParts);
+        if (quads == null) {
+            List<String> visible = new ArrayList<>();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                int type = (visibleParts >> (side.ordinal() * BITS_PER_SIDE)) & 0b111;
+                if (type != 0) {
+                    visible.add(side.getName() + ConnectionType.byIndexStatic(type - 1).getName().toUpperCase());
+                }
+            }
+            IBakedModel bakedModel = MekanismRenderer.contentsModel.bake(new VisibleModelConfiguration(contentsConfiguration, visible), ModelLoader.instance(),
+                  material -> icon, ModelRotation.X0_Y0, ItemOverrideList.EMPTY, MODEL_LOCATION);
+            //Get all the sides
+            quads = bakedModel.getQuads(null, null, Minecraft.getInstance().world.getRandom(), EmptyModelData.INSTANCE);
+            spriteContents.put(visibleParts, quads);
+        }
+        return quads;
+    }
+
     @Override
     public void render(T transmitter, float partialTick, MatrixStack matrix, IRenderTypeBuffer renderer, int light, int overlayLight) {
         if (!MekanismConfig.client.opaqueTransmitters.get()) {
-            super.render(transmitter, partialTick, matrix, renderer, light, overlayLight);
+            if (canBatch() && MekanismConfig.client.batchTransmitterContents.get()) {
+                //The contents get rendered together with the rest of the chunk section
+                TransmitterContentsBatcher.markVisible(transmitter);
+            } else {
+                super.render(transmitter, partialTick, matrix, renderer, light, overlayLight);
+            }
         }
     }
+
+    /**
+     * Renders the contents of a transmitter into the buffers of its chunk section, see {@link TransmitterContentsBatcher}.
+     */
+    void renderContents(T transmitter, MatrixStack matrix, IRenderTypeBuffer renderer, int light, int overlayLight) {
+        render(transmitter, 0, matrix, renderer, light, overlayLight, Minecraft.getInstance().getProfiler());
+    }
+
+    /**
+     * @return True if the contents only change when the transmitter or its network gets updated, and can therefore be rendered together with the rest of the chunk
+     * section.
+     */
+    protected boolean canBatch() {
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package mekanism.client.render.transmitter;
+
+import com.mojang.blaze3d.matrix.MatrixStack;
+import com.mojang.blaze3d.vertex.IVertexBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.IRenderTypeBuffer;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.WorldRenderer;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.renderer.tileentity.TileEntityRenderer;
+import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
+import net.minecraft.client.renderer.vertex.VertexBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+/**
+ * Renders the contents of all the transmitters in a chunk section from one vertex buffer per render type, instead of each transmitter rendering its own contents every
+ * frame. The buffers of a section only get rebuilt when one of its transmitters changes, for example when the scale of its network or its connections change.
+ */
+public class TransmitterContentsBatcher {
+
+    /**
+     * Number of frames a section can go without being visible before its buffers get freed.
+     */
+    private static final int MAX_INVISIBLE_FRAMES = 600;
+
+    private static final Long2ObjectMap<SectionContents> sections = new Long2ObjectOpenHashMap<>();
+    private static final LongSet visibleSections = new LongOpenHashSet();
+    private static int frame;
+
+    /**
+     * Marks the section of a transmitter as visible this frame, and adds the transmitter to it if it isn't part of it yet.
+     */
+    public static void markVisible(TileEntityTransmitter<?, ?, ?> transmitter) {
+        long sectionKey = getSectionKey(transmitter.getPos());
+        SectionContents section = sections.get(sectionKey);
+        if (section == null) {
+            section = new SectionContents(sectionKey);
+            sections.put(sectionKey, section);
+        }
+        if (section.transmitters.add(transmitter)) {
+            section.dirty = true;
+        }
+        section.lastVisibleFrame = frame;
+        visibleSections.add(sectionKey);
+    }
+
+    /**
+     * Marks the section containing the given position as needing its buffers to be rebuilt.
+     */
+    public static void markDirty(BlockPos pos) {
+        SectionContents section = sections.get(getSectionKey(pos));
+        if (section != null) {
+            section.dirty = true;
+        }
+    }
+
+    /**
+     * Marks the sections containing the transmitters of the given network as needing their buffers to be rebuilt.
+     */
+    public static void markDirty(DynamicNetwork<?, ?, ?> network) {
+        if (sections.isEmpty() || !MekanismConfig.client.batchTransmitterContents.get()) {
+            //Nothing is being batched, so there is nothing to rebuild
+            return;
+        }
+        LongSet marked = new LongOpenHashSet();
+        for (IGridTransmitter<?, ?, ?> transmitter : network.getTransmitters()) {
+            Coord4D coord = transmitter.coord();
+            long sectionKey = SectionPos.asLong(coord.x >> 4, coord.y >> 4, coord.z >> 4);
+            if (marked.add(sectionKey)) {
+                SectionContents section = sections.get(sectionKey);
+                if (section != null) {
+                    section.dirty = true;
+                }
+            }
+        }
+    }
+
+    public static void render(RenderWorldLastEvent event) {
+        frame++;
+        if (visibleSections.isEmpty()) {
+            if (!sections.isEmpty() && frame % MAX_INVISIBLE_FRAMES == 0) {
+                freeInvisibleSections();
+            }
+            return;
+        }
+        World world = Minecraft.getInstance().world;
+        if (world == null) {
+            visibleSections.clear();
+            return;
+        }
+        MatrixStack matrix = event.getMatrixStack();
+        Vec3d camera = Minecraft.getInstance().gameRenderer.getActiveRenderInfo().getProjectedView();
+        for (LongIterator iterator = visibleSections.iterator(); iterator.hasNext(); ) {
+            SectionContents section = sections.get(iterator.nextLong());
+            if (section == null) {
+                continue;
+            }
+            if (section.dirty) {
+                section.rebuild(world);
+            }
+            if (!section.vertexBuffers.isEmpty()) {
+                matrix.push();
+                matrix.translate(section.originX - camera.x, section.originY - camera.y, section.originZ - camera.z);
+                for (Map.Entry<RenderType, VertexBuffer> entry : section.vertexBuffers.entrySet()) {
+                    RenderType renderType = entry.getKey();
+                    VertexBuffer vertexBuffer = entry.getValue();
+                    renderType.setupRenderState();
+                    vertexBuffer.bindBuffer();
+                    renderType.getVertexFormat().setupBufferState(0L);
+                    vertexBuffer.draw(matrix.getLast().getMatrix(), renderType.getDrawMode());
+                    VertexBuffer.unbindBuffer();
+                    renderType.getVertexFormat().clearBufferState();
+                    renderType.clearRenderState();
+                }
+                matrix.pop();
+            }
+        }
+        visibleSections.clear();
+        if (frame % MAX_INVISIBLE_FRAMES == 0) {
+            freeInvisibleSections();
+        }
+    }
+
+    private static void freeInvisibleSections() {
+        for (ObjectIterator<SectionContents> iterator = sections.values().iterator(); iterator.hasNext(); ) {
+            SectionContents section = iterator.next();
+            if (frame - section.lastVisibleFrame >= MAX_INVISIBLE_FRAMES) {
+                section.close();
+                iterator.remove();
+            }
+        }
+    }
+
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (event.getWorld().isRemote()) {
+            reset();
+        }
+    }
+
+    public static void reset() {
+        for (SectionContents section : sections.values()) {
+            section.close();
+        }
+        sections.clear();
+        visibleSections.clear();
+    }
+
+    private static long getSectionKey(BlockPos pos) {
+        return SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+    }
+
+    private static class SectionContents implements IRenderTypeBuffer {
+
+        private final Set<TileEntityTransmitter<?, ?, ?>> transmitters = new ObjectOpenHashSet<>();
+        private final Map<RenderType, BufferBuilder> builders = new Object2ObjectOpenHashMap<>();
+        private final Set<RenderType> building = new ObjectOpenHashSet<>();
+        private final Map<RenderType, VertexBuffer> vertexBuffers = new Object2ObjectOpenHashMap<>();
+        private final int originX, originY, originZ;
+        private boolean dirty = true;
+        private int lastVisibleFrame;
+
+        private SectionContents(long sectionKey) {
+            originX = SectionPos.extractX(sectionKey) << 4;
+            originY = SectionPos.extractY(sectionKey) << 4;
+            originZ = SectionPos.extractZ(sectionKey) << 4;
+        }
+
+        @Nonnull
+        @Override
+        public IVertexBuilder getBuffer(@Nonnull RenderType renderType) {
+            BufferBuilder builder = builders.computeIfAbsent(renderType, type -> new BufferBuilder(type.getBufferSize()));
+            if (building.add(renderType)) {
+                builder.begin(renderType.getDrawMode(), renderType.getVertexFormat());
+            }
+            return builder;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void rebuild(World world) {
+            dirty = false;
+            MatrixStack matrix = new MatrixStack();
+            for (Iterator<TileEntityTransmitter<?, ?, ?>> iterator = transmitters.iterator(); iterator.hasNext(); ) {
+                TileEntityTransmitter<?, ?, ?> transmitter = iterator.next();
+                if (transmitter.isRemoved() || transmitter.getWorld() != world) {
+                    //Drop any transmitters that are no longer there
+                    iterator.remove();
+                    continue;
+                }
+                TileEntityRenderer<TileEntityTransmitter<?, ?, ?>> renderer = TileEntityRendererDispatcher.instance.getRenderer(transmitter);
+                if (renderer instanceof RenderTransmitterBase) {
+                    BlockPos pos = transmitter.getPos();
+                    matrix.push();
+                    matrix.translate(pos.getX() - originX, pos.getY() - originY, pos.getZ() - originZ);
+                    ((RenderTransmitterBase<TileEntityTransmitter<?, ?, ?>>) renderer).renderContents(transmitter, matrix, this, WorldRenderer.getCombinedLight(world, pos),
+                          OverlayTexture.NO_OVERLAY);
+                    matrix.pop();
+                }
+            }
+            //Upload what got built, and free the buffers of any render types that no longer have anything in them
+            for (Iterator<Map.Entry<RenderType, VertexBuffer>> iterator = vertexBuffers.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<RenderType, VertexBuffer> entry = iterator.next();
+                if (!building.contains(entry.getKey())) {
+                    entry.getValue().close();
+                    iterator.remove();
+                }
+            }
+            for (RenderType renderType : building) {
+                BufferBuilder builder = builders.get(renderType);
+                builder.finishDrawing();
+                vertexBuffers.computeIfAbsent(renderType, type -> new VertexBuffer(type.getVertexFormat())).upload(builder);
+            }
+            building.clear();
+        }
+
+        private void close() {
+            for (VertexBuffer vertexBuffer : vertexBuffers.values()) {
+                vertexBuffer.close();
+            }
+            vertexBuffers.clear();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import mekanism.common.network.PacketMekanismTags;
 import mekanism.common.network.PacketScubaTankData;
 import mekanism.common.network.PacketSecurityUpdate;
 import mekanism.common.network.PacketSecurityUpdate.SecurityPacket;
+import mekanism.common.network.PlayerInterestTracker;
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.util.text.ITextComponent;
@@ -56,6 +57,7 @@ public class CommonPlayerTracker {
     public void onPlayerLogoutEvent(PlayerLoggedOutEvent event) {
         Mekanism.playerState.clearPlayer(event.getPlayer().getUniqueID());
         Mekanism.freeRunnerOn.remove(event.getPlayer().getUniqueID());
+        PlayerInterestTracker.removePlayer(event.getPlayer());
     }
 
     @SubscribeEvent
@@ -3,6 +3,7 @@ package mekanism.common;
 import java.lang.ref.WeakReference;
 import java.util.function.Supplier;
 import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.client.SparkleAnimation.INodeChecker;
 import mekanism.common.network.PacketPortableTeleporter;
 import net.minecraft.entity.player.PlayerEntity;
@@ -48,6 +49,18 @@ public class CommonProxy {
     public void addHitEffects(Coord4D coord, BlockRayTraceResult mop) {
     }
 
+    /**
+     * Marks the rendered contents of the transmitter at the given position as changed on the client side.
+     */
+    public void onTransmitterContentsChanged(BlockPos pos) {
+    }
+
+    /**
+     * Marks the rendered contents of all the transmitters in the given network as changed on the client side.
+     */
+    public void onNetworkContentsChanged(DynamicNetwork<?, ?, ?> network) {
+    }
+
     /**
      * Does the multiblock creation animation, starting from the rendering block.
      */
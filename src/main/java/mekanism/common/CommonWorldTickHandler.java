@@ -8,7 +8,6 @@ import java.util.Random;
 import mekanism.common.chunkloading.ChunkManager;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.frequency.FrequencyManager;
-import mekanism.common.multiblock.MultiblockManager;
 import mekanism.common.world.GenHandler;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.ChunkPos;
@@ -68,7 +67,6 @@ public class CommonWorldTickHandler {
 
     public void tickEnd(World world) {
         if (!world.isRemote) {
-            MultiblockManager.tick(world);
             FrequencyManager.tick(world);
             if (chunkRegenMap == null || !MekanismConfig.world.enableRegeneration.get()) {
                 return;
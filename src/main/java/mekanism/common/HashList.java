@@ -5,10 +5,12 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import javax.annotation.Nonnull;
+import mekanism.api.IVersionedContents;
 
-public class HashList<T> extends AbstractList<T> {
+public class HashList<T> extends AbstractList<T> implements IVersionedContents {
 
     private List<T> list;
+    private int contentsVersion;
 
     public HashList(List<T> newList) {
         list = newList;
@@ -29,6 +31,7 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public void clear() {
+        contentsVersion++;
         list.clear();
     }
 
@@ -44,7 +47,11 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public boolean add(T obj) {
-        return !list.contains(obj) && list.add(obj);
+        if (!list.contains(obj) && list.add(obj)) {
+            contentsVersion++;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -56,6 +63,7 @@ public class HashList<T> extends AbstractList<T> {
                 }
             }
             list.add(index, obj);
+            contentsVersion++;
         }
     }
 
@@ -66,6 +74,7 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public T remove(int index) {
+        contentsVersion++;
         return list.remove(index);
     }
 
@@ -78,7 +87,11 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public boolean remove(Object obj) {
-        return list.remove(obj);
+        if (list.remove(obj)) {
+            contentsVersion++;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -109,6 +122,12 @@ public class HashList<T> extends AbstractList<T> {
         T temp = list.get(source);
         list.set(source, list.get(target));
         list.set(target, temp);
+        contentsVersion++;
+    }
+
+    @Override
+    public int getContentsVersion() {
+        return contentsVersion;
     }
 
     @Override
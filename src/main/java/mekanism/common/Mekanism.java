@@ -26,6 +26,7 @@ import mekanism.common.config.MekanismModConfig;
 import mekanism.common.content.boiler.SynchronizedBoilerData;
 import mekanism.common.content.entangloporter.InventoryFrequency;
 import mekanism.common.content.matrix.SynchronizedMatrixData;
+import mekanism.common.content.miner.MinerBlockChangeTracker;
 import mekanism.common.content.tank.SynchronizedTankData;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
@@ -35,6 +36,7 @@ import mekanism.common.frequency.FrequencyType;
 import mekanism.common.integration.MekanismHooks;
 import mekanism.common.multiblock.MultiblockManager;
 import mekanism.common.network.PacketTransmitterUpdate;
+import mekanism.common.network.PlayerInterestTracker;
 import mekanism.common.recipe.RecipeCacheManager;
 import mekanism.common.recipe.bin.BinInsertRecipe;
 import mekanism.common.registries.MekanismBlocks;
@@ -187,6 +189,10 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::serverAboutToStart);
         MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, this::serverAboutToStartLowest);
         MinecraftForge.EVENT_BUS.addListener(BinInsertRecipe::onCrafting);
+        MinecraftForge.EVENT_BUS.addListener(MinerBlockChangeTracker::onNeighborNotify);
+        MinecraftForge.EVENT_BUS.addListener(MultiblockManager::onChunkLoad);
+        MinecraftForge.EVENT_BUS.addListener(PlayerInterestTracker::onChunkWatch);
+        MinecraftForge.EVENT_BUS.addListener(PlayerInterestTracker::onChunkUnWatch);
 
         MekanismItems.ITEMS.register(modEventBus);
         MekanismBlocks.BLOCKS.register(modEventBus);
@@ -285,6 +291,8 @@ public class Mekanism {
         TransporterManager.reset();
         PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
+        MinerBlockChangeTracker.reset();
+        PlayerInterestTracker.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
@@ -37,6 +37,7 @@ import mekanism.common.network.PacketSecurityUpdate;
 import mekanism.common.network.PacketTileEntity;
 import mekanism.common.network.PacketTransmitterUpdate;
 import mekanism.common.network.PacketUpdateTile;
+import mekanism.common.network.PlayerInterestTracker;
 import mekanism.common.network.container.PacketUpdateContainer;
 import mekanism.common.network.container.PacketUpdateContainerBatch;
 import mekanism.common.network.container.PacketUpdateContainerBoolean;
@@ -60,8 +61,6 @@ import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.server.MinecraftServer;
-import net.minecraft.server.management.PlayerList;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.ResourceLocation;
@@ -77,7 +76,6 @@ import net.minecraftforge.fml.network.NetworkEvent.Context;
 import net.minecraftforge.fml.network.NetworkRegistry;
 import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
-import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
 /**
  * Mekanism packet handler. As always, use packets sparingly!
@@ -304,25 +302,11 @@ public class PacketHandler {
     }
 
     public <MSG> void sendToReceivers(MSG message, DynamicNetwork<?, ?, ?> network) {
-        //TODO: Create a method in DynamicNetwork to get all players that are "tracking" the network
-        // Also evaluate moving various network packet things over to using this at that point
-        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
-        if (server != null) {
-            Range3D range = network.getPacketRange();
-            PlayerList playerList = server.getPlayerList();
-            //Ignore height for partial Cubic chunks support as range comparision gets used ignoring player height normally anyways
-            int radius = playerList.getViewDistance() * 16;
-            for (ServerPlayerEntity player : playerList.getPlayers()) {
-                if (range.dimension == player.dimension) {
-                    BlockPos playerPosition = player.getPosition();
-                    int playerX = playerPosition.getX();
-                    int playerZ = playerPosition.getZ();
-                    //playerX/Z + radius is the max, so to stay in line with how it was before, it has an extra + 1 added to it
-                    if (playerX + radius + 1.99999 > range.xMin && range.xMax + 0.99999 > playerX - radius &&
-                        playerZ + radius + 1.99999 > range.zMin && range.zMax + 0.99999 > playerZ - radius) {
-                        sendTo(message, player);
-                    }
-                }
+        Range3D range = network.getPacketRange();
+        if (range != null) {
+            //Send to the players that are watching any of the chunks the network is in, ignoring height as watching chunks does
+            for (ServerPlayerEntity player : PlayerInterestTracker.getWatchingPlayers(range)) {
+                sendTo(message, player);
             }
         }
     }
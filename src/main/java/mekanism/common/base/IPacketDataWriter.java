@@ -0,0 +1,19 @@
+package mekanism.common.base;
+
+import net.minecraft.network.PacketBuffer;
+
+/**
+ * Writes the data of a packet directly to the buffer, without first having to collect it into a {@link mekanism.api.TileNetworkList}.
+ */
+@FunctionalInterface
+public interface IPacketDataWriter {
+
+    /**
+     * Writes the packet's data.
+     *
+     * @param buffer Buffer to write to
+     *
+     * @apiNote This may be called once for each player the packet gets sent to, so it should write the same data every time it is called.
+     */
+    void write(PacketBuffer buffer);
+}
@@ -1,19 +1,18 @@
 package mekanism.common.base.target;
 
 import mekanism.api.Action;
-import mekanism.api.math.FloatingLong;
 import mekanism.api.energy.IStrictEnergyHandler;
-import mekanism.common.base.SplitInfo;
+import mekanism.api.math.FloatingLong;
 
-public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingLong, FloatingLong> {
+public class EnergyAcceptorTarget extends FloatingLongTarget<IStrictEnergyHandler> {
 
     @Override
-    protected void acceptAmount(IStrictEnergyHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
-        splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
+    public FloatingLong acceptAmount(IStrictEnergyHandler handler, FloatingLong amount) {
+        return amount.subtract(handler.insertEnergy(amount, Action.EXECUTE));
     }
 
     @Override
-    protected FloatingLong simulate(IStrictEnergyHandler handler, FloatingLong energyToSend) {
+    public FloatingLong simulate(IStrictEnergyHandler handler, FloatingLong energyToSend) {
         return energyToSend.subtract(handler.insertEnergy(energyToSend, Action.SIMULATE));
     }
-}
\ No newline at end of file
+}
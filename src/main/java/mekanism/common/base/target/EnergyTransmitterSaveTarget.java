@@ -3,40 +3,39 @@ package mekanism.common.base.target;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
 import mekanism.api.transmitters.IGridTransmitter;
-import mekanism.common.base.SplitInfo;
 import mekanism.common.tile.transmitter.TileEntityUniversalCable;
 import mekanism.common.transmitters.TransmitterImpl;
 import mekanism.common.transmitters.grid.EnergyNetwork;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Direction;
 
-public class EnergyTransmitterSaveTarget extends Target<IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong>, FloatingLong, FloatingLong> {
-
-    private FloatingLong currentStored = FloatingLong.ZERO;
+/**
+ * Splits the energy of a network between its transmitters so that each transmitter can save its share. As every handler is given its amount exactly once, the share is
+ * saved as soon as it is accepted.
+ */
+public class EnergyTransmitterSaveTarget extends FloatingLongTarget<IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong>> {
 
     @Override
-    protected void acceptAmount(IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong> transmitter, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
-        amount = amount.min(transmitter.getCapacityAsFloatingLong().subtract(currentStored));
-        currentStored = currentStored.plusEqual(amount);
-        splitInfo.send(amount);
+    public FloatingLong acceptAmount(IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong> transmitter, FloatingLong amount) {
+        amount = amount.min(transmitter.getCapacityAsFloatingLong());
+        saveShare(transmitter, amount);
+        return amount;
     }
 
     @Override
-    protected FloatingLong simulate(IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong> transmitter, FloatingLong energyToSend) {
-        return energyToSend.copy().min(transmitter.getCapacityAsFloatingLong().subtract(currentStored));
+    public FloatingLong simulate(IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong> transmitter, FloatingLong energyToSend) {
+        return energyToSend.copy().min(transmitter.getCapacityAsFloatingLong());
     }
 
-    public void saveShare(Direction handlerDirection) {
-        IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong> transmitter = handlers.get(handlerDirection);
+    private void saveShare(IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong> transmitter, FloatingLong share) {
         if (transmitter instanceof TransmitterImpl<?, ?, ?>) {
             TileEntity tile = ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity();
             if (tile instanceof TileEntityUniversalCable) {
                 TileEntityUniversalCable cable = (TileEntityUniversalCable) tile;
-                if (!currentStored.isZero() || !cable.lastWrite.isZero()) {
-                    cable.lastWrite = currentStored;
+                if (!share.isZero() || !cable.lastWrite.isZero()) {
+                    cable.lastWrite = share.copy();
                     cable.markDirty();
                 }
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package mekanism.common.base.target;
+
+import mekanism.api.math.FloatingLong;
+
+/**
+ * Target for splitting energy between handlers.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ */
+public abstract class FloatingLongTarget<HANDLER> extends Target<HANDLER, FloatingLong> {
+
+    private FloatingLong[] needed = new FloatingLong[0];
+
+    /**
+     * Gets the buffer of needed amounts, making sure it is large enough to hold the given number of handlers.
+     */
+    public FloatingLong[] getNeeded(int size) {
+        if (needed.length < size) {
+            needed = new FloatingLong[size];
+        }
+        return needed;
+    }
+
+    /**
+     * Gives the handler the given amount.
+     *
+     * @param handler Handler to give to.
+     * @param amount  Amount to give.
+     *
+     * @return The amount actually accepted.
+     */
+    public abstract FloatingLong acceptAmount(HANDLER handler, FloatingLong amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler.
+     * @param extra   All the energy we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    public abstract FloatingLong simulate(HANDLER handler, FloatingLong extra);
+}
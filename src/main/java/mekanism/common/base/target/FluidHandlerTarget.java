@@ -1,24 +1,27 @@
 package mekanism.common.base.target;
 
 import mekanism.api.annotations.NonNull;
-import mekanism.common.base.SplitInfo;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 
-public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NonNull FluidStack> {
+public class FluidHandlerTarget extends LongTarget<IFluidHandler, @NonNull FluidStack> {
+
+    public FluidHandlerTarget() {
+        this.extra = FluidStack.EMPTY;
+    }
 
     public FluidHandlerTarget(@NonNull FluidStack type) {
         this.extra = type;
     }
 
     @Override
-    protected void acceptAmount(IFluidHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(handler.fill(new FluidStack(extra, amount), FluidAction.EXECUTE));
+    public long acceptAmount(IFluidHandler handler, long amount) {
+        return handler.fill(new FluidStack(extra, (int) amount), FluidAction.EXECUTE);
     }
 
     @Override
-    protected Integer simulate(IFluidHandler handler, @NonNull FluidStack fluidStack) {
+    public long simulate(IFluidHandler handler, @NonNull FluidStack fluidStack) {
         return handler.fill(fluidStack, FluidAction.SIMULATE);
     }
-}
\ No newline at end of file
+}
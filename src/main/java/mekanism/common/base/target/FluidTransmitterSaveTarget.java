@@ -2,54 +2,45 @@ package mekanism.common.base.target;
 
 import mekanism.api.annotations.NonNull;
 import mekanism.api.transmitters.IGridTransmitter;
-import mekanism.common.base.SplitInfo;
 import mekanism.common.tile.transmitter.TileEntityMechanicalPipe;
 import mekanism.common.transmitters.TransmitterImpl;
 import mekanism.common.transmitters.grid.FluidNetwork;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Direction;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 
-public class FluidTransmitterSaveTarget extends Target<IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack>, Integer, @NonNull FluidStack> {
+/**
+ * Splits the fluid of a network between its transmitters so that each transmitter can save its share. As every handler is given its amount exactly once, the share is
+ * saved as soon as it is accepted.
+ */
+public class FluidTransmitterSaveTarget extends LongTarget<IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack>, @NonNull FluidStack> {
 
-    private FluidStack currentStored = FluidStack.EMPTY;
-
-    public FluidTransmitterSaveTarget(@NonNull FluidStack type) {
-        this.extra = type;
+    public FluidTransmitterSaveTarget() {
+        this.extra = FluidStack.EMPTY;
     }
 
     @Override
-    protected void acceptAmount(IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack> transmitter, SplitInfo<Integer> splitInfo, Integer amount) {
-        amount = Math.min(amount, transmitter.getCapacity() - currentStored.getAmount());
-        FluidStack newFluid = new FluidStack(extra, amount);
-        if (currentStored.isEmpty()) {
-            currentStored = newFluid;
-        } else {
-            currentStored.grow(amount);
-        }
-        splitInfo.send(amount);
+    public long acceptAmount(IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack> transmitter, long amount) {
+        amount = Math.min(amount, transmitter.getCapacity());
+        saveShare(transmitter, amount == 0 ? FluidStack.EMPTY : new FluidStack(extra, (int) amount));
+        return amount;
     }
 
     @Override
-    protected Integer simulate(IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack> transmitter, @NonNull FluidStack fluidStack) {
-        if (!currentStored.isEmpty() && !currentStored.isFluidEqual(fluidStack)) {
-            return 0;
-        }
-        return Math.min(fluidStack.getAmount(), transmitter.getCapacity() - currentStored.getAmount());
+    public long simulate(IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack> transmitter, @NonNull FluidStack fluidStack) {
+        return Math.min(fluidStack.getAmount(), transmitter.getCapacity());
     }
 
-    public void saveShare(Direction handlerDirection) {
-        IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack> transmitter = handlers.get(handlerDirection);
+    private void saveShare(IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack> transmitter, FluidStack share) {
         if (transmitter instanceof TransmitterImpl<?, ?, ?>) {
             TileEntity tile = ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity();
             if (tile instanceof TileEntityMechanicalPipe) {
                 TileEntityMechanicalPipe pipe = (TileEntityMechanicalPipe) tile;
-                if (currentStored.isEmpty() != pipe.lastWrite.isEmpty() || (!currentStored.isEmpty() && !currentStored.isFluidStackIdentical(pipe.lastWrite))) {
-                    pipe.lastWrite = currentStored;
+                if (share.isEmpty() != pipe.lastWrite.isEmpty() || (!share.isEmpty() && !share.isFluidStackIdentical(pipe.lastWrite))) {
+                    pipe.lastWrite = share;
                     pipe.markDirty();
                 }
             }
         }
     }
-}
\ No newline at end of file
+}
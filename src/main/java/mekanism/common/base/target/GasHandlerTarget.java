@@ -4,21 +4,24 @@ import mekanism.api.Action;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasHandler;
-import mekanism.common.base.SplitInfo;
 
-public class GasHandlerTarget extends Target<IGasHandler, Integer, @NonNull GasStack> {
+public class GasHandlerTarget extends LongTarget<IGasHandler, @NonNull GasStack> {
+
+    public GasHandlerTarget() {
+        this.extra = GasStack.EMPTY;
+    }
 
     public GasHandlerTarget(@NonNull GasStack type) {
         this.extra = type;
     }
 
     @Override
-    protected void acceptAmount(IGasHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(amount - handler.insertGas(new GasStack(extra, amount), Action.EXECUTE).getAmount());
+    public long acceptAmount(IGasHandler handler, long amount) {
+        return amount - handler.insertGas(new GasStack(extra, (int) amount), Action.EXECUTE).getAmount();
     }
 
     @Override
-    protected Integer simulate(IGasHandler handler, @NonNull GasStack gasStack) {
+    public long simulate(IGasHandler handler, @NonNull GasStack gasStack) {
         return gasStack.getAmount() - handler.insertGas(gasStack, Action.SIMULATE).getAmount();
     }
-}
\ No newline at end of file
+}
@@ -4,52 +4,43 @@ import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasHandler;
 import mekanism.api.transmitters.IGridTransmitter;
-import mekanism.common.base.SplitInfo;
 import mekanism.common.tile.transmitter.TileEntityPressurizedTube;
 import mekanism.common.transmitters.TransmitterImpl;
 import mekanism.common.transmitters.grid.GasNetwork;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Direction;
 
-public class GasTransmitterSaveTarget extends Target<IGridTransmitter<IGasHandler, GasNetwork, GasStack>, Integer, @NonNull GasStack> {
+/**
+ * Splits the gas of a network between its transmitters so that each transmitter can save its share. As every handler is given its amount exactly once, the share is
+ * saved as soon as it is accepted.
+ */
+public class GasTransmitterSaveTarget extends LongTarget<IGridTransmitter<IGasHandler, GasNetwork, GasStack>, @NonNull GasStack> {
 
-    private GasStack currentStored = GasStack.EMPTY;
-
-    public GasTransmitterSaveTarget(@NonNull GasStack type) {
-        this.extra = type;
+    public GasTransmitterSaveTarget() {
+        this.extra = GasStack.EMPTY;
     }
 
     @Override
-    protected void acceptAmount(IGridTransmitter<IGasHandler, GasNetwork, GasStack> transmitter, SplitInfo<Integer> splitInfo, Integer amount) {
-        amount = Math.min(amount, transmitter.getCapacity() - currentStored.getAmount());
-        GasStack newGas = new GasStack(extra, amount);
-        if (currentStored.isEmpty()) {
-            currentStored = newGas;
-        } else {
-            currentStored.grow(amount);
-        }
-        splitInfo.send(amount);
+    public long acceptAmount(IGridTransmitter<IGasHandler, GasNetwork, GasStack> transmitter, long amount) {
+        amount = Math.min(amount, transmitter.getCapacity());
+        saveShare(transmitter, amount == 0 ? GasStack.EMPTY : new GasStack(extra, (int) amount));
+        return amount;
     }
 
     @Override
-    protected Integer simulate(IGridTransmitter<IGasHandler, GasNetwork, GasStack> transmitter, @NonNull GasStack gasStack) {
-        if (!currentStored.isEmpty() && !currentStored.isTypeEqual(gasStack)) {
-            return 0;
-        }
-        return Math.min(gasStack.getAmount(), transmitter.getCapacity() - currentStored.getAmount());
+    public long simulate(IGridTransmitter<IGasHandler, GasNetwork, GasStack> transmitter, @NonNull GasStack gasStack) {
+        return Math.min(gasStack.getAmount(), transmitter.getCapacity());
     }
 
-    public void saveShare(Direction handlerDirection) {
-        IGridTransmitter<IGasHandler, GasNetwork, GasStack> transmitter = handlers.get(handlerDirection);
+    private void saveShare(IGridTransmitter<IGasHandler, GasNetwork, GasStack> transmitter, GasStack share) {
         if (transmitter instanceof TransmitterImpl<?, ?, ?>) {
             TileEntity tile = ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity();
             if (tile instanceof TileEntityPressurizedTube) {
                 TileEntityPressurizedTube tube = (TileEntityPressurizedTube) tile;
-                if (currentStored.isEmpty() != tube.lastWrite.isEmpty() || (!currentStored.isEmpty() && !currentStored.isStackIdentical(tube.lastWrite))) {
-                    tube.lastWrite = currentStored;
+                if (share.isEmpty() != tube.lastWrite.isEmpty() || (!share.isEmpty() && !share.isStackIdentical(tube.lastWrite))) {
+                    tube.lastWrite = share;
                     tube.markDirty();
                 }
             }
         }
     }
-}
\ No newline at end of file
+}
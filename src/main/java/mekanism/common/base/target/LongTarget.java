@@ -0,0 +1,44 @@
+package mekanism.common.base.target;
+
+import it.unimi.dsi.fastutil.longs.LongArrays;
+
+/**
+ * Target for splitting primitive amounts, such as gas and fluids, between handlers.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ */
+public abstract class LongTarget<HANDLER, EXTRA> extends Target<HANDLER, EXTRA> {
+
+    private long[] needed = LongArrays.EMPTY_ARRAY;
+
+    /**
+     * Gets the buffer of needed amounts, making sure it is large enough to hold the given number of handlers.
+     */
+    public long[] getNeeded(int size) {
+        if (needed.length < size) {
+            needed = new long[size];
+        }
+        return needed;
+    }
+
+    /**
+     * Gives the handler the given amount.
+     *
+     * @param handler Handler to give to.
+     * @param amount  Amount to give.
+     *
+     * @return The amount actually accepted.
+     */
+    public abstract long acceptAmount(HANDLER handler, long amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler.
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    public abstract long simulate(HANDLER handler, EXTRA extra);
+}
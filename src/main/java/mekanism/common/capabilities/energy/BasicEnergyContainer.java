@@ -6,6 +6,7 @@ import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mcp.MethodsReturnNonnullByDefault;
 import mekanism.api.Action;
+import mekanism.api.IVersionedContents;
 import mekanism.api.NBTConstants;
 import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.api.annotations.NonNull;
@@ -19,7 +20,7 @@ import net.minecraft.nbt.CompoundNBT;
 @FieldsAreNonnullByDefault
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
-public class BasicEnergyContainer implements IEnergyContainer {
+public class BasicEnergyContainer implements IEnergyContainer, IVersionedContents {
 
     public static final Predicate<@NonNull AutomationType> alwaysTrue = automationType -> true;
     public static final Predicate<@NonNull AutomationType> alwaysFalse = automationType -> false;
@@ -55,6 +56,7 @@ public class BasicEnergyContainer implements IEnergyContainer {
     private final FloatingLong maxEnergy;
     @Nullable
     private final IMekanismStrictEnergyHandler energyHandler;
+    private int contentsVersion;
 
     protected BasicEnergyContainer(FloatingLong maxEnergy, Predicate<@NonNull AutomationType> canExtract, Predicate<@NonNull AutomationType> canInsert,
           @Nullable IMekanismStrictEnergyHandler energyHandler) {
@@ -66,11 +68,17 @@ public class BasicEnergyContainer implements IEnergyContainer {
 
     @Override
     public void onContentsChanged() {
+        contentsVersion++;
         if (energyHandler != null) {
             energyHandler.onContentsChanged();
         }
     }
 
+    @Override
+    public int getContentsVersion() {
+        return contentsVersion;
+    }
+
     /**
      * {@inheritDoc}
      *
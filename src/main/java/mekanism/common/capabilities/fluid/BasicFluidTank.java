@@ -8,6 +8,7 @@ import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mcp.MethodsReturnNonnullByDefault;
 import mekanism.api.Action;
+import mekanism.api.IVersionedContents;
 import mekanism.api.NBTConstants;
 import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.api.annotations.NonNull;
@@ -21,7 +22,7 @@ import net.minecraftforge.fluids.FluidStack;
 @FieldsAreNonnullByDefault
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
-public class BasicFluidTank implements IExtendedFluidTank {
+public class BasicFluidTank implements IExtendedFluidTank, IVersionedContents {
 
     public static final Predicate<@NonNull FluidStack> alwaysTrue = stack -> true;
     public static final Predicate<@NonNull FluidStack> alwaysFalse = stack -> false;
@@ -97,6 +98,7 @@ public class BasicFluidTank implements IExtendedFluidTank {
     private final int capacity;
     @Nullable
     private final IMekanismFluidHandler fluidHandler;
+    private int contentsVersion;
 
     protected BasicFluidTank(int capacity, Predicate<@NonNull FluidStack> canExtract, Predicate<@NonNull FluidStack> canInsert, Predicate<@NonNull FluidStack> validator,
           @Nullable IMekanismFluidHandler fluidHandler) {
@@ -115,11 +117,17 @@ public class BasicFluidTank implements IExtendedFluidTank {
 
     @Override
     public void onContentsChanged() {
+        contentsVersion++;
         if (fluidHandler != null) {
             fluidHandler.onContentsChanged();
         }
     }
 
+    @Override
+    public int getContentsVersion() {
+        return contentsVersion;
+    }
+
     /**
      * {@inheritDoc}
      *
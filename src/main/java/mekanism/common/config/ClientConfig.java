@@ -18,6 +18,7 @@ public class ClientConfig extends BaseMekanismConfig {
     public final CachedBooleanValue enableAmbientLighting;
     public final CachedIntValue ambientLightingLevel;
     public final CachedBooleanValue opaqueTransmitters;
+    public final CachedBooleanValue batchTransmitterContents;
     public final CachedBooleanValue allowConfiguratorModeScroll;
     public final CachedBooleanValue enableMultiblockFormationParticles;
     public final CachedBooleanValue alignHUDLeft;
@@ -45,6 +46,8 @@ public class ClientConfig extends BaseMekanismConfig {
               .defineInRange("ambientLightingLevel", 15, 1, 15));
         opaqueTransmitters = CachedBooleanValue.wrap(this, builder.comment("If true, don't render Cables/Pipes/Tubes as transparent and don't render their contents.")
               .define("opaqueTransmitters", false));
+        batchTransmitterContents = CachedBooleanValue.wrap(this, builder.comment("If true, the contents of Cables/Pipes/Tubes are rendered together for each chunk section, and only redrawn when they change. Can improve performance with lots of transmitters in view.")
+              .define("batchTransmitterContents", false));
         allowConfiguratorModeScroll = CachedBooleanValue.wrap(this, builder.comment("Allow sneak+scroll to change Configurator modes.")
               .define("allowConfiguratorModeScroll", true));
         enableMultiblockFormationParticles = CachedBooleanValue.wrap(this, builder.comment("Set to false to prevent particle spam when loading multiblocks (notification message will display instead).")
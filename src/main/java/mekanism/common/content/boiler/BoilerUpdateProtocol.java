@@ -1,5 +1,6 @@
 package mekanism.common.content.boiler;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
 import java.util.Set;
@@ -33,7 +34,7 @@ public class BoilerUpdateProtocol extends UpdateProtocol<SynchronizedBoilerData>
 
     @Override
     protected boolean isValidFrame(int x, int y, int z) {
-        return BlockTypeTile.is(pointer.getWorld().getBlockState(new BlockPos(x, y, z)).getBlock(), MekanismBlockTypes.BOILER_CASING, MekanismBlockTypes.BOILER_VALVE);
+        return BlockTypeTile.is(getBlockState(x, y, z).getBlock(), MekanismBlockTypes.BOILER_CASING, MekanismBlockTypes.BOILER_VALVE);
     }
 
     @Override
@@ -41,7 +42,7 @@ public class BoilerUpdateProtocol extends UpdateProtocol<SynchronizedBoilerData>
         if (super.isValidInnerNode(x, y, z)) {
             return true;
         }
-        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), new BlockPos(x, y, z));
+        TileEntity tile = getTileEntity(x, y, z);
         return tile instanceof TileEntityPressureDisperser || tile instanceof TileEntitySuperheatingElement;
     }
 
@@ -52,8 +53,10 @@ public class BoilerUpdateProtocol extends UpdateProtocol<SynchronizedBoilerData>
         }
         Set<Coord4D> dispersers = new ObjectOpenHashSet<>();
         Set<Coord4D> elements = new ObjectOpenHashSet<>();
-        for (Coord4D coord : innerNodes) {
-            TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), coord.getPos());
+        for (LongIterator iterator = innerNodes.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            TileEntity tile = getTileEntity(pos);
+            Coord4D coord = getCoord(pos);
             if (tile instanceof TileEntityPressureDisperser) {
                 dispersers.add(coord);
             } else if (tile instanceof TileEntitySuperheatingElement) {
@@ -1,5 +1,6 @@
 package mekanism.common.content.matrix;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import java.util.List;
 import mekanism.api.Coord4D;
 import mekanism.common.Mekanism;
@@ -11,11 +12,9 @@ import mekanism.common.registries.MekanismBlockTypes;
 import mekanism.common.tile.TileEntityInductionCasing;
 import mekanism.common.tile.TileEntityInductionCell;
 import mekanism.common.tile.TileEntityInductionProvider;
-import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.math.BlockPos;
 
 public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData> {
 
@@ -25,7 +24,7 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 
     @Override
     protected boolean isValidFrame(int x, int y, int z) {
-        return BlockTypeTile.is(pointer.getWorld().getBlockState(new BlockPos(x, y, z)).getBlock(), MekanismBlockTypes.INDUCTION_CASING, MekanismBlockTypes.INDUCTION_PORT);
+        return BlockTypeTile.is(getBlockState(x, y, z).getBlock(), MekanismBlockTypes.INDUCTION_CASING, MekanismBlockTypes.INDUCTION_PORT);
     }
 
     @Override
@@ -33,7 +32,7 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
         if (super.isValidInnerNode(x, y, z)) {
             return true;
         }
-        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), new BlockPos(x, y, z));
+        TileEntity tile = getTileEntity(x, y, z);
         return tile instanceof TileEntityInductionCell || tile instanceof TileEntityInductionProvider;
     }
 
@@ -72,8 +71,10 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 
     @Override
     protected boolean canForm(SynchronizedMatrixData structure) {
-        for (Coord4D coord : innerNodes) {
-            TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), coord.getPos());
+        for (LongIterator iterator = innerNodes.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            TileEntity tile = getTileEntity(pos);
+            Coord4D coord = getCoord(pos);
             if (tile instanceof TileEntityInductionCell) {
                 structure.addCell(coord, (TileEntityInductionCell) tile);
             } else if (tile instanceof TileEntityInductionProvider) {
@@ -0,0 +1,114 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.tile.TileEntityDigitalMiner;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
+
+/**
+ * Keeps track of the Digital Miners that have finished searching, so that blocks changing inside their area can be added to or removed from what they have left to
+ * mine without needing to search the area again. Miners are indexed by the chunks their area covers, so that a block changing only has to be checked against the
+ * miners that could contain it.
+ */
+public class MinerBlockChangeTracker {
+
+    private static final Map<DimensionType, Long2ObjectMap<List<TrackedArea>>> trackedChunks = new Object2ObjectOpenHashMap<>();
+    private static final Map<TileEntityDigitalMiner, TrackedArea> trackedAreas = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Starts tracking changes in the area of the given miner, or updates the area we are tracking if the miner is already being tracked.
+     */
+    public static void track(TileEntityDigitalMiner miner) {
+        untrack(miner);
+        TrackedArea area = new TrackedArea(miner);
+        trackedAreas.put(miner, area);
+        Long2ObjectMap<List<TrackedArea>> chunks = trackedChunks.computeIfAbsent(area.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+        for (int chunkX = area.minX >> 4; chunkX <= area.maxX >> 4; chunkX++) {
+            for (int chunkZ = area.minZ >> 4; chunkZ <= area.maxZ >> 4; chunkZ++) {
+                chunks.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), chunk -> new ObjectArrayList<>()).add(area);
+            }
+        }
+    }
+
+    public static void untrack(TileEntityDigitalMiner miner) {
+        TrackedArea area = trackedAreas.remove(miner);
+        if (area != null) {
+            Long2ObjectMap<List<TrackedArea>> chunks = trackedChunks.get(area.dimension);
+            if (chunks != null) {
+                for (int chunkX = area.minX >> 4; chunkX <= area.maxX >> 4; chunkX++) {
+                    for (int chunkZ = area.minZ >> 4; chunkZ <= area.maxZ >> 4; chunkZ++) {
+                        long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                        List<TrackedArea> areas = chunks.get(chunk);
+                        if (areas != null && areas.remove(area) && areas.isEmpty()) {
+                            chunks.remove(chunk);
+                        }
+                    }
+                }
+                if (chunks.isEmpty()) {
+                    trackedChunks.remove(area.dimension);
+                }
+            }
+        }
+    }
+
+    public static void onNeighborNotify(NeighborNotifyEvent event) {
+        IWorld world = event.getWorld();
+        if (!world.isRemote()) {
+            Long2ObjectMap<List<TrackedArea>> chunks = trackedChunks.get(world.getDimension().getType());
+            if (chunks != null) {
+                BlockPos pos = event.getPos();
+                List<TrackedArea> areas = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+                if (areas != null) {
+                    for (int i = 0, size = areas.size(); i < size; i++) {
+                        TrackedArea area = areas.get(i);
+                        if (area.contains(pos)) {
+                            area.miner.onBlockChanged(pos);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public static void reset() {
+        trackedChunks.clear();
+        trackedAreas.clear();
+    }
+
+    private static class TrackedArea {
+
+        private final TileEntityDigitalMiner miner;
+        private final DimensionType dimension;
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int maxX;
+        private final int maxY;
+        private final int maxZ;
+
+        private TrackedArea(TileEntityDigitalMiner miner) {
+            this.miner = miner;
+            dimension = miner.getWorld().getDimension().getType();
+            BlockPos pos = miner.getPos();
+            int radius = miner.getRadius();
+            minX = pos.getX() - radius;
+            maxX = pos.getX() + radius;
+            minZ = pos.getZ() - radius;
+            maxZ = pos.getZ() + radius;
+            minY = miner.getMinY();
+            maxY = miner.getMaxY();
+        }
+
+        private boolean contains(BlockPos pos) {
+            return pos.getX() >= minX && pos.getX() <= maxX && pos.getZ() >= minZ && pos.getZ() <= maxZ && pos.getY() >= minY && pos.getY() <= maxY;
+        }
+    }
+}
@@ -3,119 +3,293 @@ package mekanism.common.content.miner;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
 import mekanism.api.text.IHasTextComponent;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.ILangEntry;
-import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.block.BlockBounding;
 import mekanism.common.tile.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.FlowingFluidBlock;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.Region;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for the blocks it should mine. The area is split into tasks of one chunk section each, which get run on a small worker pool
+ * that is shared between all the miners. The pool picks the next section from the search with the highest priority, so that a search somebody is waiting on does not
+ * have to wait for all the other searches to finish first.
+ */
+public class ThreadMinerSearch {
 
-    private TileEntityDigitalMiner tile;
+    private static final int WORKER_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final AtomicInteger workerIndex = new AtomicInteger();
+    private static final ExecutorService workers = Executors.newFixedThreadPool(WORKER_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "Mekanism Miner Search #" + workerIndex.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * Searches that still have sections left to search, in the order they were started.
+     */
+    private static final List<ThreadMinerSearch> activeSearches = new ArrayList<>();
 
-    public State state = State.IDLE;
+    private final TileEntityDigitalMiner tile;
 
-    private Map<ChunkPos, BitSet> oresToMine = new Object2ObjectOpenHashMap<>();
-    private Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
-    private Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
-    private Region chunkCache;
+    public volatile State state = State.IDLE;
 
-    public int found = 0;
+    private final Queue<SectionTask> pendingSections = new ArrayDeque<>();
+    private final Queue<SectionResult> results = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger remainingSections = new AtomicInteger();
+    private final AtomicInteger found = new AtomicInteger();
+    private List<MinerFilter<?>> filters;
+    private BlockPos start;
+    private int diameter;
+    private boolean inverse;
+    private volatile boolean cancelled;
+    private volatile int priority;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
     }
 
-    public void setChunkCache(Region cache) {
-        this.chunkCache = cache;
-    }
-
-    @Override
-    public void run() {
+    /**
+     * Starts searching the area of the miner. This needs to be called from the server thread, as it gathers the chunks to search.
+     */
+    public void start(World world) {
         state = State.SEARCHING;
-        List<MinerFilter<?>> filters = tile.getFilters();
-        if (!tile.inverse && filters.isEmpty()) {
-            state = State.FINISHED;
+        filters = new ArrayList<>(tile.getFilters());
+        inverse = tile.inverse;
+        if (!inverse && filters.isEmpty()) {
+            finish();
             return;
         }
-        BlockPos pos = tile.getStartingPos();
-        int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
+        start = tile.getStartingPos();
+        diameter = tile.getDiameter();
+        int minY = tile.getMinY();
+        int maxY = tile.getMaxY();
+        int endX = start.getX() + diameter - 1;
+        int endZ = start.getZ() + diameter - 1;
+        for (int chunkX = start.getX() >> 4; chunkX <= endX >> 4; chunkX++) {
+            for (int chunkZ = start.getZ() >> 4; chunkZ <= endZ >> 4; chunkZ++) {
+                Chunk chunk = world.getChunk(chunkX, chunkZ);
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    pendingSections.add(new SectionTask(chunk, Math.max(start.getX(), chunkX << 4), Math.min(endX, (chunkX << 4) + 15),
+                          Math.max(minY, sectionY << 4), Math.min(maxY, (sectionY << 4) + 15), Math.max(start.getZ(), chunkZ << 4),
+                          Math.min(endZ, (chunkZ << 4) + 15)));
+                }
+            }
+        }
+        int sections = pendingSections.size();
+        if (sections == 0) {
+            finish();
+            return;
+        }
+        remainingSections.set(sections);
+        synchronized (activeSearches) {
+            activeSearches.add(this);
+        }
+        for (int i = 0; i < sections; i++) {
+            //Each submitted task searches whichever section has the highest priority at the time it runs
+            workers.execute(ThreadMinerSearch::searchNextSection);
+        }
+    }
+
+    /**
+     * Stops searching, any sections that have not been searched yet get skipped.
+     */
+    public void cancel() {
+        cancelled = true;
+        synchronized (activeSearches) {
+            activeSearches.remove(this);
+            pendingSections.clear();
+        }
+    }
+
+    /**
+     * Sets the priority of this search, sections of searches with a higher priority get searched before the ones of searches with a lower priority.
+     */
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public int getFound() {
+        return found.get();
+    }
+
+    private static void searchNextSection() {
+        ThreadMinerSearch search = null;
+        SectionTask task = null;
+        synchronized (activeSearches) {
+            for (ThreadMinerSearch activeSearch : activeSearches) {
+                if (search == null || activeSearch.priority > search.priority) {
+                    search = activeSearch;
+                }
             }
-            BlockPos testPos = pos.add(i % diameter, i / diameter / diameter, (i / diameter) % diameter);
-            if (minerPos.equals(testPos) || MekanismUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
+            if (search != null) {
+                task = search.pendingSections.poll();
+                if (search.pendingSections.isEmpty()) {
+                    activeSearches.remove(search);
+                }
             }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir(chunkCache, testPos) || state.getBlockHardness(chunkCache, testPos) < 0) {
-                //Skip air and unbreakable blocks
-                continue;
+        }
+        if (task != null) {
+            try {
+                search.search(task);
+            } catch (Exception e) {
+                Mekanism.logger.error("Digital Miner search failed for section at {}, {}, {}", task.minX, task.minY, task.minZ, e);
             }
-            info = state.getBlock();
-            if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock) {
-                //Skip liquids
-                continue;
+            if (search.remainingSections.decrementAndGet() == 0 && !search.cancelled) {
+                search.finish();
             }
-            MinerFilter<?> filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                ItemStack stack = new ItemStack(info);
-                if (tile.isReplaceStack(stack)) {
-                    continue;
+        }
+    }
+
+    private void search(SectionTask task) {
+        if (cancelled || tile.isRemoved()) {
+            //Make sure the miner is still valid and something hasn't gone wrong
+            return;
+        }
+        ChunkSection section = task.chunk.getSections()[task.minY >> 4];
+        if (ChunkSection.isEmpty(section)) {
+            //Skip sections that only contain air
+            return;
+        }
+        //Evaluate the filters once for each distinct state in the section instead of for every position
+        BlockPos.Mutable testPos = new BlockPos.Mutable(task.minX, task.minY, task.minZ);
+        Map<BlockState, MinerFilter<?>> targets = new Reference2ObjectOpenHashMap<>();
+        section.getData().count((state, count) -> {
+            if (canMine(tile, task.chunk, testPos, state)) {
+                MinerFilter<?> filterFound = getMatchingFilter(filters, state);
+                if (inverse == (filterFound == null)) {
+                    targets.put(state, filterFound);
                 }
-                for (MinerFilter<?> filter : filters) {
-                    if (filter.canFilter(state)) {
-                        filterFound = filter;
-                        break;
+            }
+        });
+        if (targets.isEmpty()) {
+            //Nothing in this section is something we want to mine
+            return;
+        }
+        SectionResult result = new SectionResult(task.chunk.getPos());
+        BlockPos minerPos = tile.getPos();
+        for (int y = task.minY; y <= task.maxY; y++) {
+            for (int z = task.minZ; z <= task.maxZ; z++) {
+                for (int x = task.minX; x <= task.maxX; x++) {
+                    BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                    if (!targets.containsKey(state) || minerPos.getX() == x && minerPos.getY() == y && minerPos.getZ() == z) {
+                        //Skip anything we don't want to mine and the miner itself
+                        continue;
                     }
+                    int index = (x - start.getX()) + (z - start.getZ()) * diameter + (y - start.getY()) * diameter * diameter;
+                    result.toMine.set(index);
+                    result.replaceMap.put(index, targets.get(state));
                 }
-                acceptedItems.put(info, filterFound);
             }
-            if (tile.inverse == (filterFound == null)) {
-                set(i, testPos);
-                replaceMap.put(i, filterFound);
-                found++;
+        }
+        if (!result.toMine.isEmpty()) {
+            results.add(result);
+            found.addAndGet(result.replaceMap.size());
+        }
+    }
+
+    /**
+     * Checks if a state is something the miner is able to mine, ignoring the filters. When searching, air and hardness are checked at the corner of the section, as
+     * they don't vary by position for a given state.
+     */
+    public static boolean canMine(TileEntityDigitalMiner tile, IBlockReader reader, BlockPos pos, BlockState state) {
+        if (state.isAir(reader, pos) || state.getBlockHardness(reader, pos) < 0) {
+            //Skip air and unbreakable blocks
+            return false;
+        }
+        Block block = state.getBlock();
+        if (block instanceof BlockBounding || block instanceof FlowingFluidBlock || block instanceof IFluidBlock || tile.isReplaceItem(block.asItem())) {
+            //Skip bounding blocks, liquids and the blocks we replace mined blocks with
+            return false;
+        }
+        return true;
+    }
+
+    @Nullable
+    public static MinerFilter<?> getMatchingFilter(List<MinerFilter<?>> filters, BlockState state) {
+        for (MinerFilter<?> filter : filters) {
+            if (filter.canFilter(state)) {
+                return filter;
             }
         }
+        return null;
+    }
 
-        state = State.FINISHED;
+    private void finish() {
+        Map<ChunkPos, BitSet> oresToMine = new Object2ObjectOpenHashMap<>();
+        Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
+        for (SectionResult result : results) {
+            BitSet chunkToMine = oresToMine.get(result.chunk);
+            if (chunkToMine == null) {
+                oresToMine.put(result.chunk, result.toMine);
+            } else {
+                chunkToMine.or(result.toMine);
+            }
+            replaceMap.putAll(result.replaceMap);
+        }
+        results.clear();
         tile.oresToMine = oresToMine;
         tile.replaceMap = replaceMap;
-        chunkCache = null;
+        tile.cachedToMine = found.get();
+        state = State.FINISHED;
         MekanismUtils.saveChunk(tile);
-        tile.cachedToMine = found;
-    }
-
-    public void set(int i, BlockPos pos) {
-        ChunkPos chunk = new ChunkPos(pos);
-        oresToMine.computeIfAbsent(chunk, k -> new BitSet());
-        oresToMine.get(chunk).set(i);
     }
 
     public void reset() {
+        cancel();
         state = State.IDLE;
-        chunkCache = null;
+    }
+
+    private static class SectionTask {
+
+        private final Chunk chunk;
+        private final int minX, maxX;
+        private final int minY, maxY;
+        private final int minZ, maxZ;
+
+        private SectionTask(Chunk chunk, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+            this.chunk = chunk;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minY = minY;
+            this.maxY = maxY;
+            this.minZ = minZ;
+            this.maxZ = maxZ;
+        }
+    }
+
+    private static class SectionResult {
+
+        private final ChunkPos chunk;
+        private final BitSet toMine = new BitSet();
+        private final Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
+
+        private SectionResult(ChunkPos chunk) {
+            this.chunk = chunk;
+        }
     }
 
     public enum State implements IHasTextComponent {
@@ -142,4 +316,4 @@ public class ThreadMinerSearch extends Thread {
             return MODES[Math.floorMod(index, MODES.length)];
         }
     }
-}
\ No newline at end of file
+}
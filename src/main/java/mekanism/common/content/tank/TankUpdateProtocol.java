@@ -16,7 +16,6 @@ import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.StackUtils;
 import mekanism.common.util.StorageUtils;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.math.BlockPos;
 
 public class TankUpdateProtocol extends UpdateProtocol<SynchronizedTankData> {
 
@@ -28,7 +27,7 @@ public class TankUpdateProtocol extends UpdateProtocol<SynchronizedTankData> {
 
     @Override
     protected boolean isValidFrame(int x, int y, int z) {
-        return BlockTypeTile.is(pointer.getWorld().getBlockState(new BlockPos(x, y, z)).getBlock(), MekanismBlockTypes.DYNAMIC_TANK, MekanismBlockTypes.DYNAMIC_VALVE);
+        return BlockTypeTile.is(getBlockState(x, y, z).getBlock(), MekanismBlockTypes.DYNAMIC_TANK, MekanismBlockTypes.DYNAMIC_VALVE);
     }
 
     @Override
@@ -1,37 +1,132 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.Coord4D;
+import mekanism.common.transmitters.grid.InventoryNetwork;
 import net.minecraft.util.Direction;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
 
 public class PathfinderCache {
 
-    private static Map<PathData, List<Coord4D>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    /**
+     * Maximum number of paths to keep cached, once reached the least recently used path gets evicted.
+     */
+    private static final int MAX_CACHED_PATHS = 4_096;
 
+    private static Object2ObjectLinkedOpenHashMap<PathData, List<Coord4D>> cachedPaths = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * Reverse index of the cached paths by the packed positions they pass through, so that a change at a position only evicts the paths that cross it.
+     */
+    private static Map<DimensionType, Long2ObjectMap<Set<PathData>>> pathsByPosition = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+
+    /**
+     * Evicts any cached paths that pass through the given location, for when a transporter got removed or can no longer be passed through.
+     */
     public static void onChanged(Coord4D location) {
-        reset();
+        Long2ObjectMap<Set<PathData>> positions = pathsByPosition.get(location.dimension);
+        if (positions != null) {
+            Set<PathData> paths = positions.get(location.getPos().toLong());
+            if (paths != null) {
+                for (PathData data : new ArrayList<>(paths)) {
+                    removeCachedPath(data);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts the cached paths that start in the given network, for when a transporter got added to it or can be passed through by more stacks. In those cases there
+     * may now be a shorter path that does not cross any of the positions of the existing paths.
+     */
+    public static void onNetworkChanged(InventoryNetwork network) {
+        World world = network.getWorld();
+        if (world != null) {
+            DimensionType dimension = world.getDimension().getType();
+            List<PathData> changed = new ArrayList<>();
+            for (PathData data : cachedPaths.keySet()) {
+                if (data.startTransporter.dimension == dimension && network.hasTransmitterAt(data.startTransporter)) {
+                    changed.add(data);
+                }
+            }
+            for (PathData data : changed) {
+                removeCachedPath(data);
+            }
+        }
     }
 
     public static void addCachedPath(PathData data, List<Coord4D> coords) {
+        if (cachedPaths.containsKey(data)) {
+            removeCachedPath(data);
+        } else if (cachedPaths.size() >= MAX_CACHED_PATHS) {
+            removeCachedPath(cachedPaths.firstKey());
+        }
         cachedPaths.put(data, coords);
+        Long2ObjectMap<Set<PathData>> positions = pathsByPosition.computeIfAbsent(data.startTransporter.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+        for (Coord4D coord : coords) {
+            positions.computeIfAbsent(coord.getPos().toLong(), pos -> new ObjectOpenHashSet<>()).add(data);
+        }
+    }
+
+    private static void removeCachedPath(PathData data) {
+        List<Coord4D> coords = cachedPaths.remove(data);
+        if (coords != null) {
+            Long2ObjectMap<Set<PathData>> positions = pathsByPosition.get(data.startTransporter.dimension);
+            if (positions != null) {
+                for (Coord4D coord : coords) {
+                    long pos = coord.getPos().toLong();
+                    Set<PathData> paths = positions.get(pos);
+                    if (paths != null && paths.remove(data) && paths.isEmpty()) {
+                        positions.remove(pos);
+                    }
+                }
+            }
+        }
     }
 
     public static List<Coord4D> getCache(Coord4D start, Coord4D end, Set<Direction> sides) {
         List<Coord4D> ret = null;
         for (Direction side : sides) {
-            List<Coord4D> test = cachedPaths.get(new PathData(start, end, side));
+            List<Coord4D> test = cachedPaths.getAndMoveToLast(new PathData(start, end, side));
             if (ret == null || (test != null && test.size() < ret.size())) {
                 ret = test;
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    public static int getCachedPathCount() {
+        return cachedPaths.size();
+    }
+
     public static void reset() {
         cachedPaths.clear();
+        pathsByPosition.clear();
+        hits = 0;
+        misses = 0;
     }
 
     public static class PathData {
@@ -66,4 +161,4 @@ public class PathfinderCache {
             return hash;
         }
     }
-}
\ No newline at end of file
+}
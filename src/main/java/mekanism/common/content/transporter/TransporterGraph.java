@@ -0,0 +1,183 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.text.EnumColor;
+import mekanism.common.base.ILogisticalTransporter;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Adjacency graph of the transporters in an {@link mekanism.common.transmitters.grid.InventoryNetwork}, so that pathfinding can walk the network without looking up
+ * tiles and capabilities for every step. Each transporter gets an int node id, and for each side we store the node that a stack can move into from it. Changes are
+ * applied lazily: changed positions are marked as dirty and only they and their neighbors get recalculated the next time the graph is used.
+ */
+public class TransporterGraph {
+
+    public static final int NO_NODE = -1;
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+
+    private final Long2IntMap nodeIds = new Long2IntOpenHashMap();
+    private final IntList freeIds = new IntArrayList();
+    private final LongSet dirty = new LongOpenHashSet();
+    private ILogisticalTransporter[] transporters = new ILogisticalTransporter[16];
+    private TileEntity[] tiles = new TileEntity[16];
+    private long[] positions = new long[16];
+    /**
+     * Node that a stack moves into when leaving the node in a given direction, stored at {@code node * 6 + direction ordinal}.
+     */
+    private int[] edges = new int[16 * SIDES];
+    private int nextId;
+
+    public TransporterGraph() {
+        nodeIds.defaultReturnValue(NO_NODE);
+        Arrays.fill(edges, NO_NODE);
+    }
+
+    public void addTransporter(ILogisticalTransporter transporter) {
+        Coord4D coord = transporter.coord();
+        long pos = BlockPos.pack(coord.x, coord.y, coord.z);
+        int node = nodeIds.get(pos);
+        if (node == NO_NODE) {
+            node = freeIds.isEmpty() ? nextId++ : freeIds.removeInt(freeIds.size() - 1);
+            ensureCapacity(node + 1);
+            nodeIds.put(pos, node);
+            positions[node] = pos;
+        }
+        transporters[node] = transporter;
+        markDirty(pos);
+    }
+
+    public void removeTransporter(Coord4D coord) {
+        long pos = BlockPos.pack(coord.x, coord.y, coord.z);
+        int node = nodeIds.remove(pos);
+        if (node != NO_NODE) {
+            transporters[node] = null;
+            tiles[node] = null;
+            Arrays.fill(edges, node * SIDES, (node + 1) * SIDES, NO_NODE);
+            freeIds.add(node);
+            markDirty(pos);
+        }
+    }
+
+    /**
+     * Marks the connections from and to the transporter at the given position as needing to be recalculated.
+     */
+    public void markDirty(Coord4D coord) {
+        markDirty(BlockPos.pack(coord.x, coord.y, coord.z));
+    }
+
+    private void markDirty(long pos) {
+        dirty.add(pos);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            dirty.add(BlockPos.offset(pos, side));
+        }
+    }
+
+    public void clear() {
+        nodeIds.clear();
+        freeIds.clear();
+        dirty.clear();
+        Arrays.fill(transporters, null);
+        Arrays.fill(tiles, null);
+        Arrays.fill(edges, NO_NODE);
+        nextId = 0;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > transporters.length) {
+            int newSize = Math.max(size, transporters.length * 2);
+            transporters = Arrays.copyOf(transporters, newSize);
+            tiles = Arrays.copyOf(tiles, newSize);
+            positions = Arrays.copyOf(positions, newSize);
+            int oldEdges = edges.length;
+            edges = Arrays.copyOf(edges, newSize * SIDES);
+            Arrays.fill(edges, oldEdges, edges.length, NO_NODE);
+        }
+    }
+
+    /**
+     * Recalculates the connections of any transporters that changed since the graph was last used.
+     */
+    public void update(World world) {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        //Update the tiles first so that the connections can be checked against the up to date tiles
+        for (LongIterator iterator = dirty.iterator(); iterator.hasNext(); ) {
+            int node = nodeIds.get(iterator.nextLong());
+            if (node != NO_NODE) {
+                tiles[node] = MekanismUtils.getTileEntity(world, BlockPos.fromLong(positions[node]));
+            }
+        }
+        for (LongIterator iterator = dirty.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            int node = nodeIds.get(pos);
+            if (node == NO_NODE) {
+                continue;
+            }
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                int neighbor = nodeIds.get(BlockPos.offset(pos, side));
+                if (neighbor != NO_NODE && transporters[neighbor].canConnectMutual(side.getOpposite(), tiles[node])) {
+                    edges[node * SIDES + side.ordinal()] = neighbor;
+                } else {
+                    edges[node * SIDES + side.ordinal()] = NO_NODE;
+                }
+            }
+        }
+        dirty.clear();
+    }
+
+    public int getNode(Coord4D coord) {
+        return nodeIds.get(BlockPos.pack(coord.x, coord.y, coord.z));
+    }
+
+    /**
+     * @return The node a stack of the given color can move into when leaving the given node in the given direction, or {@link #NO_NODE} if it can't move that way.
+     */
+    public int getNeighbor(int node, Direction side, @Nullable EnumColor color) {
+        int neighbor = edges[node * SIDES + side.ordinal()];
+        if (neighbor != NO_NODE) {
+            EnumColor neighborColor = transporters[neighbor].getColor();
+            if (neighborColor == null || neighborColor == color) {
+                return neighbor;
+            }
+        }
+        return NO_NODE;
+    }
+
+    public ILogisticalTransporter getTransporter(int node) {
+        return transporters[node];
+    }
+
+    public TileEntity getTile(int node) {
+        return tiles[node];
+    }
+
+    /**
+     * @return The cost of moving into the given node.
+     */
+    public double getCost(int node) {
+        return transporters[node].getCost();
+    }
+
+    public long getPosition(int node) {
+        return positions[node];
+    }
+
+    public Coord4D getCoord(int node, World world) {
+        return new Coord4D(BlockPos.fromLong(positions[node]), world);
+    }
+}
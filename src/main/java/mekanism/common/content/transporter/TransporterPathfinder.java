@@ -1,5 +1,13 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.ints.Int2DoubleMap;
+import it.unimi.dsi.fastutil.ints.Int2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
@@ -11,10 +19,12 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.api.text.EnumColor;
 import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.PathfinderCache.PathData;
@@ -37,6 +47,13 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public final class TransporterPathfinder {
 
+    /**
+     * Search trees from transporters that stacks have left this tick, keyed by the starting transporter and the color of the stack. The transporters a stack can
+     * pass through only depend on its color, so stacks leaving the same transporter in the same tick can share the search.
+     */
+    private static final Map<Pair<Coord4D, EnumColor>, PathTree> pathTrees = new Object2ObjectOpenHashMap<>();
+    private static long pathTreesTick = -1;
+
     private static List<Destination> getPaths(ILogisticalTransporter start, TransporterStack stack, TransitRequest request, int min) {
         InventoryNetwork network = start.getTransmitterNetwork();
         if (network == null) {
@@ -44,52 +61,63 @@ public final class TransporterPathfinder {
         }
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
+        TransporterGraph graph = network.getGraph();
         List<Destination> paths = new ArrayList<>();
+        Long2ObjectMap<AcceptorData> uncached = new Long2ObjectOpenHashMap<>();
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+            if (data.getResponse().getSendingAmount() >= min) {
+                Destination path = getCachedPath(data, start, stack, graph);
+                if (path == null) {
+                    uncached.put(data.getLocation().getPos().toLong(), data);
+                } else {
+                    paths.add(path);
+                }
             }
         }
+        if (!uncached.isEmpty()) {
+            //Find the paths to all the destinations we don't have cached paths for in a single search
+            paths.addAll(getPathTree(start, stack, graph).findPaths(uncached));
+        }
         Collections.sort(paths);
         return paths;
     }
 
-    private static boolean checkPath(World world, List<Coord4D> path, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+    private static PathTree getPathTree(ILogisticalTransporter start, TransporterStack stack, TransporterGraph graph) {
+        World world = start.world();
+        long tick = world.getGameTime();
+        if (tick != pathTreesTick) {
+            pathTrees.clear();
+            pathTreesTick = tick;
+        }
+        Pair<Coord4D, EnumColor> key = Pair.of(start.coord(), stack.color);
+        PathTree tree = pathTrees.get(key);
+        if (tree == null || tree.graph != graph) {
+            //Either we don't have a tree yet, or the network got rebuilt this tick and the tree refers to the nodes of the old graph
+            tree = new PathTree(world, graph, key.getLeft(), stack);
+            pathTrees.put(key, tree);
+        }
+        return tree;
+    }
+
+    private static boolean checkPath(TransporterGraph graph, List<Coord4D> path, TransporterStack stack) {
         for (int i = path.size() - 1; i > 0; i--) {
-            TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, path.get(i));
-            Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
-            if (capability.isPresent()) {
-                ILogisticalTransporter transporter = capability.get();
-                if (transporter.getColor() != null && transporter.getColor() != stack.color) {
-                    return false;
-                }
-            } else {
+            int node = graph.getNode(path.get(i));
+            if (node == TransporterGraph.NO_NODE) {
+                return false;
+            }
+            EnumColor color = graph.getTransporter(node).getColor();
+            if (color != null && color != stack.color) {
                 return false;
             }
         }
         return true;
     }
 
-    private static Destination getPath(AcceptorData data, ILogisticalTransporter start, TransporterStack stack, int min, Long2ObjectMap<IChunk> chunkMap) {
-        TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            Coord4D dest = data.getLocation();
-            List<Coord4D> test = PathfinderCache.getCache(start.coord(), dest, data.getSides());
-            if (test != null && checkPath(start.world(), test, stack, chunkMap)) {
-                return new Destination(test, false, response, 0).calculateScore(start.world(), chunkMap);
-            }
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction dir, TileEntity tile) {
-                    return InventoryUtils.canInsert(tile, stack.color, response.getStack(), dir, false);
-                }
-            }, start.world(), dest, start.coord(), stack, chunkMap);
-            List<Coord4D> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
-                return new Destination(path, false, response, p.finalScore);
-            }
+    @Nullable
+    private static Destination getCachedPath(AcceptorData data, ILogisticalTransporter start, TransporterStack stack, TransporterGraph graph) {
+        List<Coord4D> test = PathfinderCache.getCache(start.coord(), data.getLocation(), data.getSides());
+        if (test != null && checkPath(graph, test, stack)) {
+            return new Destination(test, false, data.getResponse(), 0).calculateScore(graph);
         }
         return null;
     }
@@ -133,7 +161,13 @@ public final class TransporterPathfinder {
         return closest;
     }
 
+    @Nullable
     public static Pair<List<Coord4D>, Path> getIdlePath(ILogisticalTransporter start, TransporterStack stack) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        if (network == null) {
+            return null;
+        }
+        TransporterGraph graph = network.getGraph();
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
         if (stack.homeLocation != null) {
             Pathfinder p = new Pathfinder(new DestChecker() {
@@ -141,7 +175,7 @@ public final class TransporterPathfinder {
                 public boolean isValid(TransporterStack stack, Direction side, TileEntity tile) {
                     return InventoryUtils.canInsert(tile, stack.color, stack.itemStack, side, true);
                 }
-            }, start.world(), stack.homeLocation, start.coord(), stack, chunkMap);
+            }, start.world(), graph, stack.homeLocation, start.coord(), stack, chunkMap);
             List<Coord4D> path = p.getPath();
             if (path.size() >= 2) {
                 return Pair.of(path, Path.HOME);
@@ -149,8 +183,8 @@ public final class TransporterPathfinder {
             stack.homeLocation = null;
         }
 
-        IdlePath d = new IdlePath(start.world(), start.coord(), stack);
-        Destination dest = d.find(chunkMap);
+        IdlePath d = new IdlePath(start.world(), graph, start.coord(), stack);
+        Destination dest = d.find();
         if (dest == null) {
             return null;
         }
@@ -160,84 +194,78 @@ public final class TransporterPathfinder {
     public static class IdlePath {
 
         private World world;
+        private TransporterGraph graph;
         private Coord4D start;
         private TransporterStack transportStack;
 
-        public IdlePath(World world, Coord4D obj, TransporterStack stack) {
+        public IdlePath(World world, TransporterGraph graph, Coord4D obj, TransporterStack stack) {
             this.world = world;
+            this.graph = graph;
             start = obj;
             transportStack = stack;
         }
 
-        public Destination find(Long2ObjectMap<IChunk> chunkMap) {
+        @Nullable
+        public Destination find() {
+            int startNode = graph.getNode(start);
+            if (startNode == TransporterGraph.NO_NODE) {
+                return null;
+            }
             ArrayList<Coord4D> ret = new ArrayList<>();
             ret.add(start);
-            TileEntity startTile = MekanismUtils.getTileEntity(world, chunkMap, start);
             if (transportStack.idleDir == null) {
-                Direction newSide = findSide(chunkMap);
+                Direction newSide = findSide(startNode);
                 if (newSide == null) {
                     return null;
                 }
                 transportStack.idleDir = newSide;
-                loopSide(chunkMap, ret, newSide, startTile);
+                loopSide(ret, newSide, startNode);
                 return new Destination(ret, true, null, 0).setPathType(Path.NONE);
             }
-            TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, start.offset(transportStack.idleDir));
-            if (transportStack.canInsertToTransporter(tile, transportStack.idleDir, startTile)) {
-                loopSide(chunkMap, ret, transportStack.idleDir, startTile);
+            if (graph.getNeighbor(startNode, transportStack.idleDir, transportStack.color) != TransporterGraph.NO_NODE) {
+                loopSide(ret, transportStack.idleDir, startNode);
                 return new Destination(ret, true, null, 0).setPathType(Path.NONE);
             }
             TransitRequest request = TransitRequest.getFromTransport(transportStack);
-            Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(startTile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
-            if (capability.isPresent()) {
-                Destination newPath = TransporterPathfinder.getNewBasePath(capability.get(), transportStack, request, 0);
-                if (newPath != null && newPath.getResponse() != null) {
-                    transportStack.idleDir = null;
-                    newPath.setPathType(Path.DEST);
-                    return newPath;
-                }
+            Destination newPath = TransporterPathfinder.getNewBasePath(graph.getTransporter(startNode), transportStack, request, 0);
+            if (newPath != null && newPath.getResponse() != null) {
+                transportStack.idleDir = null;
+                newPath.setPathType(Path.DEST);
+                return newPath;
             }
-            Direction newSide = findSide(chunkMap);
+            Direction newSide = findSide(startNode);
             if (newSide == null) {
                 return null;
             }
             transportStack.idleDir = newSide;
-            loopSide(chunkMap, ret, newSide, startTile);
+            loopSide(ret, newSide, startNode);
             return new Destination(ret, true, null, 0).setPathType(Path.NONE);
         }
 
-        private void loopSide(Long2ObjectMap<IChunk> chunkMap, List<Coord4D> list, Direction side, TileEntity startTile) {
-            TileEntity lastTile = startTile;
-            Coord4D coord = start.offset(side);
-            TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, coord);
-            while (transportStack.canInsertToTransporter(tile, side, lastTile)) {
-                lastTile = tile;
-                list.add(coord);
-                coord = coord.offset(side);
-                tile = MekanismUtils.getTileEntity(world, chunkMap, coord);
+        private void loopSide(List<Coord4D> list, Direction side, int startNode) {
+            int node = graph.getNeighbor(startNode, side, transportStack.color);
+            while (node != TransporterGraph.NO_NODE) {
+                list.add(graph.getCoord(node, world));
+                node = graph.getNeighbor(node, side, transportStack.color);
             }
         }
 
-        private Direction findSide(Long2ObjectMap<IChunk> chunkMap) {
-            BlockPos startPos = start.getPos();
-            TileEntity startTile = MekanismUtils.getTileEntity(world, chunkMap, startPos);
+        @Nullable
+        private Direction findSide(int startNode) {
             if (transportStack.idleDir == null) {
                 for (Direction side : EnumUtils.DIRECTIONS) {
-                    TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, startPos.offset(side));
-                    if (transportStack.canInsertToTransporter(tile, side, startTile)) {
+                    if (graph.getNeighbor(startNode, side, transportStack.color) != TransporterGraph.NO_NODE) {
                         return side;
                     }
                 }
             } else {
                 Direction opposite = transportStack.idleDir.getOpposite();
                 for (Direction side : EnumSet.complementOf(EnumSet.of(opposite))) {
-                    TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, startPos.offset(side));
-                    if (transportStack.canInsertToTransporter(tile, side, startTile)) {
+                    if (graph.getNeighbor(startNode, side, transportStack.color) != TransporterGraph.NO_NODE) {
                         return side;
                     }
                 }
-                TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, startPos.offset(opposite));
-                if (transportStack.canInsertToTransporter(tile, opposite, startTile)) {
+                if (graph.getNeighbor(startNode, opposite, transportStack.color) != TransporterGraph.NO_NODE) {
                     return opposite;
                 }
             }
@@ -266,11 +294,13 @@ public final class TransporterPathfinder {
             return this;
         }
 
-        public Destination calculateScore(World world, Long2ObjectMap<IChunk> chunkMap) {
+        public Destination calculateScore(TransporterGraph graph) {
             score = 0;
             for (Coord4D location : path) {
-                CapabilityUtils.getCapability(MekanismUtils.getTileEntity(world, chunkMap, location.getPos()), Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null)
-                      .ifPresent(transporter -> score += transporter.getCost());
+                int node = graph.getNode(location);
+                if (node != TransporterGraph.NO_NODE) {
+                    score += graph.getCost(node);
+                }
             }
             return this;
         }
@@ -310,10 +340,130 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Dijkstra search over the transporters reachable from a starting transporter, that finds the cheapest path to any number of destinations in one sweep. Transporters
+     * are settled in order of their cost from the start, so the first settled transporter next to a destination that can insert into it is on the cheapest path to
+     * it. The search is resumable and remembers the order transporters were settled in, so that later queries for other destinations can reuse the work.
+     */
+    public static class PathTree {
+
+        private final Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+        private final PriorityQueue<Node> openQueue = new PriorityQueue<>();
+        private final IntSet closedSet = new IntOpenHashSet();
+        private final Int2IntMap navMap = new Int2IntOpenHashMap();
+        private final Int2DoubleMap gScore = new Int2DoubleOpenHashMap();
+        private final IntList settled = new IntArrayList();
+        private final TransporterGraph graph;
+        private final Coord4D start;
+        private final TransporterStack transportStack;
+        private final World world;
+
+        public PathTree(World world, TransporterGraph graph, Coord4D start, TransporterStack stack) {
+            this.world = world;
+            this.graph = graph;
+            this.start = start;
+            transportStack = stack;
+            navMap.defaultReturnValue(TransporterGraph.NO_NODE);
+            int startNode = graph.getNode(start);
+            if (startNode != TransporterGraph.NO_NODE) {
+                gScore.put(startNode, 0D);
+                openQueue.add(new Node(startNode, 0));
+            }
+        }
+
+        /**
+         * Finds the cheapest paths to the given destinations.
+         *
+         * @param destinations Destinations to find paths to, keyed by their position packed using {@link BlockPos#toLong()}.
+         *
+         * @return The paths to the destinations that could be reached.
+         */
+        public List<Destination> findPaths(Long2ObjectMap<AcceptorData> destinations) {
+            Long2ObjectMap<AcceptorData> remaining = new Long2ObjectOpenHashMap<>(destinations);
+            List<Destination> paths = new ArrayList<>();
+            for (int i = 0; !remaining.isEmpty(); i++) {
+                int node = i < settled.size() ? settled.getInt(i) : settleNext();
+                if (node == TransporterGraph.NO_NODE) {
+                    //Nothing else is reachable
+                    break;
+                }
+                long pos = graph.getPosition(node);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    long neighborPos = BlockPos.offset(pos, direction);
+                    AcceptorData data = remaining.get(neighborPos);
+                    if (data != null && data.getSides().contains(direction)) {
+                        TileEntity neighborTile = MekanismUtils.getTileEntity(world, chunkMap, BlockPos.fromLong(neighborPos));
+                        TransitResponse response = data.getResponse();
+                        if (InventoryUtils.canInsert(neighborTile, transportStack.color, response.getStack(), direction, false) &&
+                            graph.getTransporter(node).canEmitTo(neighborTile, direction)) {
+                            List<Coord4D> path = reconstructPath(data.getLocation(), node);
+                            PathfinderCache.addCachedPath(new PathData(start, data.getLocation(), direction), path);
+                            //Add one for the step into the destination to match the score the single destination search gives
+                            paths.add(new Destination(path, false, response, gScore.get(node) + 1));
+                            remaining.remove(neighborPos);
+                        }
+                    }
+                }
+            }
+            return paths;
+        }
+
+        private int settleNext() {
+            while (!openQueue.isEmpty()) {
+                int currentNode = openQueue.poll().node;
+                if (!closedSet.add(currentNode)) {
+                    //Already settled with a lower cost
+                    continue;
+                }
+                settled.add(currentNode);
+                double currentScore = gScore.get(currentNode);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    int neighbor = graph.getNeighbor(currentNode, direction, transportStack.color);
+                    if (neighbor != TransporterGraph.NO_NODE && !closedSet.contains(neighbor)) {
+                        double tentativeG = currentScore + graph.getCost(neighbor);
+                        if (!gScore.containsKey(neighbor) || tentativeG < gScore.get(neighbor)) {
+                            navMap.put(neighbor, currentNode);
+                            gScore.put(neighbor, tentativeG);
+                            openQueue.add(new Node(neighbor, tentativeG));
+                        }
+                    }
+                }
+                return currentNode;
+            }
+            return TransporterGraph.NO_NODE;
+        }
+
+        private List<Coord4D> reconstructPath(Coord4D destination, int lastNode) {
+            List<Coord4D> path = new ArrayList<>();
+            path.add(destination);
+            for (int node = lastNode; node != TransporterGraph.NO_NODE; node = navMap.get(node)) {
+                path.add(graph.getCoord(node, world));
+            }
+            return path;
+        }
+
+        private static class Node implements Comparable<Node> {
+
+            private final int node;
+            private final double score;
+
+            private Node(int node, double score) {
+                this.node = node;
+                this.score = score;
+            }
+
+            @Override
+            public int compareTo(@Nonnull Node other) {
+                return Double.compare(score, other.score);
+            }
+        }
+    }
+
     public static class Pathfinder {
 
         private final Set<Coord4D> openSet, closedSet;
         private final Map<Coord4D, Coord4D> navMap;
+        private final TransporterGraph graph;
         private final Object2DoubleOpenHashMap<Coord4D> gScore, fScore;
         private final Coord4D start;
         private final Coord4D finalNode;
@@ -325,9 +475,11 @@ public final class TransporterPathfinder {
         private List<Coord4D> results;
         private World world;
 
-        public Pathfinder(DestChecker checker, World world, Coord4D finishObj, Coord4D startObj, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+        public Pathfinder(DestChecker checker, World world, TransporterGraph graph, Coord4D finishObj, Coord4D startObj, TransporterStack stack,
+              Long2ObjectMap<IChunk> chunkMap) {
             destChecker = checker;
             this.world = world;
+            this.graph = graph;
 
             finalNode = finishObj;
             start = startObj;
@@ -352,16 +504,18 @@ public final class TransporterPathfinder {
             gScore.put(start, 0D);
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
             fScore.put(start, start.distanceTo(finalNode));
+            int startNode = graph.getNode(start);
+            if (startNode == TransporterGraph.NO_NODE) {
+                return false;
+            }
             boolean hasValidDirection = false;
-            TileEntity startTile = MekanismUtils.getTileEntity(world, chunkMap, start);
+            TileEntity startTile = graph.getTile(startNode);
             for (Direction direction : EnumUtils.DIRECTIONS) {
-                Coord4D neighbor = start.offset(direction);
-                TileEntity neighborTile = MekanismUtils.getTileEntity(world, chunkMap, neighbor);
-                if (transportStack.canInsertToTransporter(neighborTile, direction, startTile)) {
+                if (graph.getNeighbor(startNode, direction, transportStack.color) != TransporterGraph.NO_NODE) {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTile, direction, neighbor, neighborTile)) {
+                } else if (isValidDestination(chunkMap, start, startTile, direction)) {
                     //Otherwise if we are neighboring our destination, and we can emit to the location or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -393,19 +547,18 @@ public final class TransporterPathfinder {
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
-                TileEntity currentNodeTile = MekanismUtils.getTileEntity(world, chunkMap, currentNode);
+                int currentId = graph.getNode(currentNode);
+                if (currentId == TransporterGraph.NO_NODE) {
+                    continue;
+                }
+                TileEntity currentNodeTile = graph.getTile(currentId);
                 double currentScore = gScore.getDouble(currentNode);
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    Coord4D neighbor = currentNode.offset(direction);
-                    TileEntity neighborEntity = MekanismUtils.getTileEntity(world, chunkMap, neighbor);
-                    if (transportStack.canInsertToTransporter(neighborEntity, direction, currentNodeTile)) {
+                    int neighborId = graph.getNeighbor(currentId, direction, transportStack.color);
+                    if (neighborId != TransporterGraph.NO_NODE) {
                         //If the neighbor is a transporter and the stack is valid for it
-                        double tentativeG = currentScore;
-                        Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(neighborEntity,
-                              Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, direction.getOpposite()));
-                        if (capability.isPresent()) {
-                            tentativeG += capability.get().getCost();
-                        }
+                        Coord4D neighbor = currentNode.offset(direction);
+                        double tentativeG = currentScore + graph.getCost(neighborId);
                         if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
                             continue;
                         }
@@ -416,7 +569,7 @@ public final class TransporterPathfinder {
                             fScore.put(neighbor, tentativeG + neighbor.distanceTo(finalNode));
                             openSet.add(neighbor);
                         }
-                    } else if (isValidDestination(currentNode, currentNodeTile, direction, neighbor, neighborEntity)) {
+                    } else if (isValidDestination(chunkMap, currentNode, currentNodeTile, direction)) {
                         //Else if the neighbor is the destination and we can send to it
                         return true;
                     }
@@ -430,9 +583,14 @@ public final class TransporterPathfinder {
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(Coord4D start, TileEntity startTile, Direction direction, Coord4D neighbor, TileEntity neighborTile) {
+        private boolean isValidDestination(Long2ObjectMap<IChunk> chunkMap, Coord4D start, TileEntity startTile, Direction direction) {
+            Coord4D neighbor = start.offset(direction);
             //Check to make sure that it is the destination
-            if (neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborTile)) {
+            if (!neighbor.equals(finalNode)) {
+                return false;
+            }
+            TileEntity neighborTile = MekanismUtils.getTileEntity(world, chunkMap, neighbor);
+            if (destChecker.isValid(transportStack, direction, neighborTile)) {
                 Optional<ILogisticalTransporter> startTransporter = MekanismUtils.toOptional(CapabilityUtils.getCapability(startTile,
                       Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
                 if (startTransporter.isPresent()) {
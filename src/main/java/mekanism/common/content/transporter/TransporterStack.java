@@ -6,7 +6,6 @@ import java.util.Optional;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.NBTConstants;
-import mekanism.api.TileNetworkList;
 import mekanism.api.text.EnumColor;
 import mekanism.api.transmitters.IBlockableConnection;
 import mekanism.common.base.ILogisticalTransporter;
@@ -61,22 +60,22 @@ public class TransporterStack {
         return stack;
     }
 
-    public void write(ILogisticalTransporter transporter, TileNetworkList data) {
-        data.add(TransporterUtils.getColorIndex(color));
+    public void write(ILogisticalTransporter transporter, PacketBuffer buffer) {
+        buffer.writeInt(TransporterUtils.getColorIndex(color));
 
-        data.add(progress);
-        originalLocation.write(data);
-        data.add(pathType);
+        buffer.writeInt(progress);
+        originalLocation.write(buffer);
+        buffer.writeEnumValue(pathType);
 
         if (pathToTarget.indexOf(transporter.coord()) > 0) {
-            data.add(true);
-            getNext(transporter).write(data);
+            buffer.writeBoolean(true);
+            getNext(transporter).write(buffer);
         } else {
-            data.add(false);
+            buffer.writeBoolean(false);
         }
 
-        getPrev(transporter).write(data);
-        data.add(itemStack);
+        getPrev(transporter).write(buffer);
+        buffer.writeItemStack(itemStack);
     }
 
     public void read(PacketBuffer dataStream) {
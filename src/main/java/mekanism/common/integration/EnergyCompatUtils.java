@@ -82,6 +82,42 @@ public class EnergyCompatUtils {
         return null;
     }
 
+    /**
+     * Gets a lazy optional of the strict energy handler the tile exposes on the given side. This does not fall back to forge energy, see {@link
+     * #getLazyForgeEnergyHandler(TileEntity, Direction)} for that.
+     */
+    @Nonnull
+    public static LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(TileEntity tile, Direction side) {
+        if (tile == null || tile.getWorld() == null) {
+            return LazyOptional.empty();
+        }
+        return CapabilityUtils.getCapability(tile, Capabilities.STRICT_ENERGY_CAPABILITY, side);
+    }
+
+    /**
+     * Gets a lazy optional of the forge energy handler the tile exposes on the given side, or an empty lazy optional if forge energy is disabled.
+     */
+    @Nonnull
+    public static LazyOptional<IEnergyStorage> getLazyForgeEnergyHandler(TileEntity tile, Direction side) {
+        if (tile == null || tile.getWorld() == null || !useForge()) {
+            return LazyOptional.empty();
+        }
+        return CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side);
+    }
+
+    /**
+     * Wraps a lazy optional of a forge energy handler as a strict energy handler. The returned optional gets invalidated when the forge energy handler gets invalidated,
+     * so that it can be safely cached.
+     *
+     * @apiNote This adds a listener to the given optional, so callers should reuse the returned optional instead of wrapping the same optional again.
+     */
+    @Nonnull
+    public static LazyOptional<IStrictEnergyHandler> wrapForgeEnergyHandler(LazyOptional<IEnergyStorage> forgeEnergyCap) {
+        LazyOptional<IStrictEnergyHandler> wrapped = LazyOptional.of(() -> new ForgeStrictEnergyHandler(forgeEnergyCap.orElseThrow(IllegalStateException::new)));
+        forgeEnergyCap.addListener(invalidated -> wrapped.invalidate());
+        return wrapped;
+    }
+
     /**
      * @apiNote It is expected that isEnergyCapability is called before calling this method
      */
@@ -360,10 +360,10 @@ public abstract class MekanismContainer extends Container {
         }
     }
 
-    public <TYPE> void handleWindowProperty(short property, @Nonnull List<TYPE> value) {
+    public <TYPE> void handleWindowProperty(short property, @Nonnull List<TYPE> value, int start, int removed) {
         ISyncableData data = trackedData.get(property);
         if (data instanceof SyncableList<?>) {
-            ((SyncableList<TYPE>) data).set(value);
+            ((SyncableList<TYPE>) data).set(value, start, removed);
         }
     }
 
@@ -407,7 +407,12 @@ public abstract class MekanismContainer extends Container {
             //Send all contents to the listener when it first gets added
             List<PropertyData> dirtyData = new ArrayList<>();
             for (short i = 0; i < trackedData.size(); i++) {
-                dirtyData.add(trackedData.get(i).getPropertyData(i, DirtyType.DIRTY));
+                ISyncableData data = trackedData.get(i);
+                if (data instanceof SyncableList<?>) {
+                    //Lists normally only send what changed since they were last sent, make sure the new listener gets the entire list
+                    ((SyncableList<?>) data).resetLastSent();
+                }
+                dirtyData.add(data.getPropertyData(i, DirtyType.DIRTY));
             }
             int size = dirtyData.size();
             if (size == 1) {
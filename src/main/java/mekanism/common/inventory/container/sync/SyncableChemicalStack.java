@@ -1,8 +1,10 @@
 package mekanism.common.inventory.container.sync;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
@@ -16,10 +18,14 @@ public abstract class SyncableChemicalStack<CHEMICAL extends Chemical<CHEMICAL>,
     private ChemicalStack<CHEMICAL> lastKnownValue;
     private final Supplier<@NonNull STACK> getter;
     private final Consumer<@NonNull STACK> setter;
+    @Nullable
+    private final IntSupplier versionGetter;
+    private int lastKnownVersion = -1;
 
-    protected SyncableChemicalStack(Supplier<@NonNull STACK> getter, Consumer<@NonNull STACK> setter) {
+    protected SyncableChemicalStack(Supplier<@NonNull STACK> getter, Consumer<@NonNull STACK> setter, @Nullable IntSupplier versionGetter) {
         this.getter = getter;
         this.setter = setter;
+        this.versionGetter = versionGetter;
         lastKnownValue = getEmptyStack();
     }
 
@@ -49,6 +55,14 @@ public abstract class SyncableChemicalStack<CHEMICAL extends Chemical<CHEMICAL>,
 
     @Override
     public DirtyType isDirty() {
+        if (versionGetter != null) {
+            int version = versionGetter.getAsInt();
+            if (version == lastKnownVersion) {
+                //The contents have not changed since we last checked, skip comparing them
+                return DirtyType.CLEAN;
+            }
+            lastKnownVersion = version;
+        }
         STACK value = get();
         boolean sameType = value.isTypeEqual(this.lastKnownValue);
         if (!sameType || value.getAmount() != this.lastKnownValue.getAmount()) {
@@ -1,9 +1,13 @@
 package mekanism.common.inventory.container.sync;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.IVersionedContents;
 import mekanism.api.annotations.NonNull;
+import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.network.container.property.FloatingLongPropertyData;
 import mekanism.common.network.container.property.PropertyData;
@@ -13,18 +17,27 @@ import mekanism.common.network.container.property.PropertyData;
  */
 public class SyncableFloatingLong implements ISyncableData {
 
+    public static SyncableFloatingLong create(IEnergyContainer energyContainer) {
+        return new SyncableFloatingLong(energyContainer::getEnergy, energyContainer::setEnergy,
+              energyContainer instanceof IVersionedContents ? ((IVersionedContents) energyContainer)::getContentsVersion : null);
+    }
+
     public static SyncableFloatingLong create(Supplier<@NonNull FloatingLong> getter, Consumer<@NonNull FloatingLong> setter) {
-        return new SyncableFloatingLong(getter, setter);
+        return new SyncableFloatingLong(getter, setter, null);
     }
 
     private final Supplier<@NonNull FloatingLong> getter;
     private final Consumer<@NonNull FloatingLong> setter;
     @Nonnull
     private FloatingLong lastKnownValue = FloatingLong.ZERO;
+    @Nullable
+    private final IntSupplier versionGetter;
+    private int lastKnownVersion = -1;
 
-    private SyncableFloatingLong(Supplier<@NonNull FloatingLong> getter, Consumer<@NonNull FloatingLong> setter) {
+    private SyncableFloatingLong(Supplier<@NonNull FloatingLong> getter, Consumer<@NonNull FloatingLong> setter, @Nullable IntSupplier versionGetter) {
         this.getter = getter;
         this.setter = setter;
+        this.versionGetter = versionGetter;
     }
 
     @Nonnull
@@ -38,6 +51,14 @@ public class SyncableFloatingLong implements ISyncableData {
 
     @Override
     public DirtyType isDirty() {
+        if (versionGetter != null) {
+            int version = versionGetter.getAsInt();
+            if (version == lastKnownVersion) {
+                //The contents have not changed since we last checked, skip comparing them
+                return DirtyType.CLEAN;
+            }
+            lastKnownVersion = version;
+        }
         FloatingLong value = get();
         if (!value.equals(lastKnownValue)) {
             //Make sure to copy it in case our floating long object is the same object so would be getting modified
@@ -1,8 +1,11 @@
 package mekanism.common.inventory.container.sync;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.IVersionedContents;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.fluid.IExtendedFluidTank;
 import mekanism.common.network.container.property.FluidStackPropertyData;
@@ -16,21 +19,25 @@ import net.minecraftforge.fluids.FluidStack;
 public class SyncableFluidStack implements ISyncableData {
 
     public static SyncableFluidStack create(@Nonnull IExtendedFluidTank handler) {
-        return new SyncableFluidStack(handler::getFluid, handler::setStack);
+        return new SyncableFluidStack(handler::getFluid, handler::setStack, handler instanceof IVersionedContents ? ((IVersionedContents) handler)::getContentsVersion : null);
     }
 
     public static SyncableFluidStack create(Supplier<@NonNull FluidStack> getter, Consumer<@NonNull FluidStack> setter) {
-        return new SyncableFluidStack(getter, setter);
+        return new SyncableFluidStack(getter, setter, null);
     }
 
     @Nonnull
     private FluidStack lastKnownValue = FluidStack.EMPTY;
     private final Supplier<@NonNull FluidStack> getter;
     private final Consumer<@NonNull FluidStack> setter;
+    @Nullable
+    private final IntSupplier versionGetter;
+    private int lastKnownVersion = -1;
 
-    private SyncableFluidStack(Supplier<@NonNull FluidStack> getter, Consumer<@NonNull FluidStack> setter) {
+    private SyncableFluidStack(Supplier<@NonNull FluidStack> getter, Consumer<@NonNull FluidStack> setter, @Nullable IntSupplier versionGetter) {
         this.getter = getter;
         this.setter = setter;
+        this.versionGetter = versionGetter;
     }
 
     @Nonnull
@@ -52,6 +59,14 @@ public class SyncableFluidStack implements ISyncableData {
 
     @Override
     public DirtyType isDirty() {
+        if (versionGetter != null) {
+            int version = versionGetter.getAsInt();
+            if (version == lastKnownVersion) {
+                //The contents have not changed since we last checked, skip comparing them
+                return DirtyType.CLEAN;
+            }
+            lastKnownVersion = version;
+        }
         FluidStack value = get();
         boolean sameFluid = value.isFluidEqual(this.lastKnownValue);
         if (!sameFluid || value.getAmount() != this.lastKnownValue.getAmount()) {
@@ -1,8 +1,11 @@
 package mekanism.common.inventory.container.sync;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.IVersionedContents;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.gas.Gas;
@@ -17,15 +20,15 @@ import mekanism.common.network.container.property.PropertyData;
 public class SyncableGasStack extends SyncableChemicalStack<Gas, GasStack> {
 
     public static SyncableGasStack create(IChemicalTank<Gas, GasStack> handler) {
-        return new SyncableGasStack(handler::getStack, handler::setStack);
+        return new SyncableGasStack(handler::getStack, handler::setStack, handler instanceof IVersionedContents ? ((IVersionedContents) handler)::getContentsVersion : null);
     }
 
     public static SyncableGasStack create(Supplier<@NonNull GasStack> getter, Consumer<@NonNull GasStack> setter) {
-        return new SyncableGasStack(getter, setter);
+        return new SyncableGasStack(getter, setter, null);
     }
 
-    private SyncableGasStack(Supplier<@NonNull GasStack> getter, Consumer<@NonNull GasStack> setter) {
-        super(getter, setter);
+    private SyncableGasStack(Supplier<@NonNull GasStack> getter, Consumer<@NonNull GasStack> setter, @Nullable IntSupplier versionGetter) {
+        super(getter, setter, versionGetter);
     }
 
     @Nonnull
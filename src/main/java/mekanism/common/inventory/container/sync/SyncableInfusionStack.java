@@ -1,8 +1,11 @@
 package mekanism.common.inventory.container.sync;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.IVersionedContents;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.infuse.InfuseType;
@@ -17,15 +20,15 @@ import mekanism.common.network.container.property.PropertyData;
 public class SyncableInfusionStack extends SyncableChemicalStack<InfuseType, InfusionStack> {
 
     public static SyncableInfusionStack create(IChemicalTank<InfuseType, InfusionStack> handler) {
-        return new SyncableInfusionStack(handler::getStack, handler::setStack);
+        return new SyncableInfusionStack(handler::getStack, handler::setStack, handler instanceof IVersionedContents ? ((IVersionedContents) handler)::getContentsVersion : null);
     }
 
     public static SyncableInfusionStack create(Supplier<@NonNull InfusionStack> getter, Consumer<@NonNull InfusionStack> setter) {
-        return new SyncableInfusionStack(getter, setter);
+        return new SyncableInfusionStack(getter, setter, null);
     }
 
-    private SyncableInfusionStack(Supplier<@NonNull InfusionStack> getter, Consumer<@NonNull InfusionStack> setter) {
-        super(getter, setter);
+    private SyncableInfusionStack(Supplier<@NonNull InfusionStack> getter, Consumer<@NonNull InfusionStack> setter, @Nullable IntSupplier versionGetter) {
+        super(getter, setter, versionGetter);
     }
 
     @Nonnull
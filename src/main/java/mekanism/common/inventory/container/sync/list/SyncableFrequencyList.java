@@ -3,6 +3,7 @@ package mekanism.common.inventory.container.sync.list;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.annotation.Nonnull;
 import mekanism.api.annotations.NonNull;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.network.container.property.list.FrequencyListPropertyData;
@@ -22,7 +23,7 @@ public class SyncableFrequencyList<FREQUENCY extends Frequency> extends Syncable
     }
 
     @Override
-    public ListPropertyData<FREQUENCY> getPropertyData(short property, DirtyType dirtyType) {
-        return new FrequencyListPropertyData<>(property, get());
+    protected ListPropertyData<FREQUENCY> createPropertyData(short property, @Nonnull List<FREQUENCY> values, int start, int removed) {
+        return new FrequencyListPropertyData<>(property, values, start, removed);
     }
 }
\ No newline at end of file
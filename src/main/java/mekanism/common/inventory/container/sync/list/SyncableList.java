@@ -1,9 +1,13 @@
 package mekanism.common.inventory.container.sync.list;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.IVersionedContents;
 import mekanism.api.annotations.NonNull;
 import mekanism.common.inventory.container.sync.ISyncableData;
 import mekanism.common.network.container.property.list.ListPropertyData;
@@ -16,6 +20,19 @@ public abstract class SyncableList<TYPE> implements ISyncableData {
     private final Supplier<@NonNull List<TYPE>> getter;
     private final Consumer<@NonNull List<TYPE>> setter;
     private int lastKnownHashCode;
+    /**
+     * The list and its version the last time we checked, if the list keeps track of its version. See {@link IVersionedContents}.
+     */
+    @Nullable
+    private List<TYPE> lastKnownList;
+    private int lastKnownVersion;
+    /**
+     * Copy of the list as it was when it was last sent, so that we only have to send the part of it that changed. {@code null} if the entire list should be sent.
+     *
+     * @apiNote This means that elements of the list should be replaced instead of being modified in place for the change to be synced properly.
+     */
+    @Nullable
+    private List<TYPE> lastSentValues;
 
     protected SyncableList(Supplier<@NonNull List<TYPE>> getter, Consumer<@NonNull List<TYPE>> setter) {
         this.getter = getter;
@@ -31,18 +48,89 @@ public abstract class SyncableList<TYPE> implements ISyncableData {
         setter.accept(value);
     }
 
+    /**
+     * Replaces a range of the list with the given values.
+     *
+     * @param values  Values to insert.
+     * @param start   Index to replace elements at, or {@code -1} if the values are the entire list.
+     * @param removed Number of elements to remove starting at the index, before inserting the values.
+     */
+    public void set(@Nonnull List<TYPE> values, int start, int removed) {
+        if (start == -1) {
+            set(values);
+            return;
+        }
+        List<TYPE> current = get();
+        if (start < 0 || removed < 0 || start + removed > current.size()) {
+            //Out of sync with the server, this shouldn't happen but if it does just ignore the change
+            return;
+        }
+        List<TYPE> updated = new ArrayList<>(current.size() - removed + values.size());
+        updated.addAll(current.subList(0, start));
+        updated.addAll(values);
+        updated.addAll(current.subList(start + removed, current.size()));
+        set(updated);
+    }
+
+    /**
+     * Makes it so that the next time the list gets synced the entire list gets sent instead of only the part that changed.
+     */
+    public void resetLastSent() {
+        lastSentValues = null;
+    }
+
     @Override
-    public abstract ListPropertyData<TYPE> getPropertyData(short property, DirtyType dirtyType);
+    public ListPropertyData<TYPE> getPropertyData(short property, DirtyType dirtyType) {
+        List<TYPE> values = get();
+        List<TYPE> lastSent = lastSentValues;
+        lastSentValues = new ArrayList<>(values);
+        if (lastSent != null) {
+            //Skip over the elements that are the same at the start and end of the list to find the range that changed
+            int size = values.size();
+            int start = 0;
+            int shortest = Math.min(size, lastSent.size());
+            while (start < shortest && Objects.equals(values.get(start), lastSent.get(start))) {
+                start++;
+            }
+            int end = size;
+            int lastEnd = lastSent.size();
+            while (end > start && lastEnd > start && Objects.equals(values.get(end - 1), lastSent.get(lastEnd - 1))) {
+                end--;
+                lastEnd--;
+            }
+            //Note: If nothing changed, an element got modified in place and we can't tell which one, so we just send the entire list
+            if (end - start < size && (end > start || lastEnd > start)) {
+                return createPropertyData(property, new ArrayList<>(values.subList(start, end)), start, lastEnd - start);
+            }
+        }
+        return createPropertyData(property, values, -1, 0);
+    }
+
+    /**
+     * @param values  Values to send.
+     * @param start   Index the values replace elements at, or {@code -1} if the values are the entire list.
+     * @param removed Number of elements the values replace.
+     */
+    protected abstract ListPropertyData<TYPE> createPropertyData(short property, @Nonnull List<TYPE> values, int start, int removed);
 
     @Override
     public DirtyType isDirty() {
         List<TYPE> values = get();
+        if (values instanceof IVersionedContents) {
+            int version = ((IVersionedContents) values).getContentsVersion();
+            if (values == lastKnownList && version == lastKnownVersion) {
+                //Same list and it has not changed since we last checked, skip hashing all the elements
+                return DirtyType.CLEAN;
+            }
+            lastKnownList = values;
+            lastKnownVersion = version;
+        } else {
+            lastKnownList = null;
+        }
         int valuesHashCode = values.hashCode();
         if (lastKnownHashCode == valuesHashCode) {
             return DirtyType.CLEAN;
         }
-        //TODO: Create a way to declare changes so we don't have to sync the entire list, when a single element changes
-        // Both for removal as well as addition
         lastKnownHashCode = valuesHashCode;
         return DirtyType.DIRTY;
     }
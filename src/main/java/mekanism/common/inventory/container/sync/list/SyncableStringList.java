@@ -3,6 +3,7 @@ package mekanism.common.inventory.container.sync.list;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.annotation.Nonnull;
 import mekanism.api.annotations.NonNull;
 import mekanism.common.network.container.property.list.ListPropertyData;
 import mekanism.common.network.container.property.list.StringListPropertyData;
@@ -21,7 +22,7 @@ public class SyncableStringList extends SyncableList<String> {
     }
 
     @Override
-    public ListPropertyData<String> getPropertyData(short property, DirtyType dirtyType) {
-        return new StringListPropertyData(property, get());
+    protected ListPropertyData<String> createPropertyData(short property, @Nonnull List<String> values, int start, int removed) {
+        return new StringListPropertyData(property, values, start, removed);
     }
 }
\ No newline at end of file
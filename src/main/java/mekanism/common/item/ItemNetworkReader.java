@@ -1,6 +1,7 @@
 package mekanism.common.item;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -87,12 +88,20 @@ public class ItemNetworkReader extends ItemEnergized {
                             TileEntity tile = MekanismUtils.getTileEntity(world, coord.getPos());
                             Direction iterSideOpposite = iterSide.getOpposite();
                             CapabilityUtils.getCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY, iterSideOpposite).ifPresent(transmitter -> {
-                                if (transmitter.getTransmitterNetwork().getPossibleAcceptors().contains(coord.offset(iterSideOpposite)) &&
+                                long acceptorPos = tileEntity.getPos().toLong();
+                                if (transmitter.getTransmitterNetwork().getPossibleAcceptors().contains(acceptorPos) &&
                                     !iteratedNetworks.contains(transmitter.getTransmitterNetwork())) {
+                                    byte sideMask = transmitter.getTransmitterNetwork().getAcceptorDirections().get(acceptorPos);
+                                    Set<Direction> sides = EnumSet.noneOf(Direction.class);
+                                    for (Direction side : EnumUtils.DIRECTIONS) {
+                                        if (DynamicNetwork.hasSide(sideMask, side)) {
+                                            sides.add(side);
+                                        }
+                                    }
                                     player.sendMessage(MekanismLang.NETWORK_READER_BORDER.translateColored(EnumColor.GRAY, "-------------",
                                           MekanismLang.GENERIC_SQUARE_BRACKET.translateColored(EnumColor.DARK_BLUE, transmitter.getTransmissionType())));
                                     player.sendMessage(MekanismLang.NETWORK_READER_CONNECTED_SIDES.translateColored(EnumColor.GRAY, EnumColor.DARK_GRAY,
-                                          transmitter.getTransmitterNetwork().getAcceptorDirections().get(coord.offset(iterSideOpposite)).toString()));
+                                          sides.toString()));
                                     player.sendMessage(MekanismLang.NETWORK_READER_BORDER.translateColored(EnumColor.GRAY, "-------------", EnumColor.DARK_BLUE, "[=======]"));
                                     iteratedNetworks.add(transmitter.getTransmitterNetwork());
                                 }
@@ -1,10 +1,11 @@
 package mekanism.common.multiblock;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -12,7 +13,12 @@ import mekanism.api.Coord4D;
 import mekanism.common.tile.TileEntityMultiblock;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraftforge.event.world.ChunkEvent;
 
 public class MultiblockManager<T extends SynchronizedData<T>> {
 
@@ -25,14 +31,28 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
      */
     public Map<String, MultiblockCache<T>> inventories = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * Index of the inventory IDs that have a cached location in each chunk, so that the caches only need to be checked when one of their chunks gets loaded.
+     */
+    private final Map<DimensionType, Long2ObjectMap<Set<String>>> idsByChunk = new Object2ObjectOpenHashMap<>();
+
     public MultiblockManager(String s) {
         name = s;
         managers.add(this);
     }
 
-    public static void tick(World world) {
-        for (MultiblockManager<?> manager : managers) {
-            manager.tickSelf(world);
+    /**
+     * Removes the locations of any segments that are no longer there from the caches of the chunk that got loaded, as the chunk may have changed while it was not
+     * loaded.
+     */
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        IWorld world = event.getWorld();
+        if (world != null && !world.isRemote()) {
+            IChunk chunk = event.getChunk();
+            DimensionType dimension = world.getDimension().getType();
+            for (MultiblockManager<?> manager : managers) {
+                manager.validateChunk(chunk, dimension);
+            }
         }
     }
 
@@ -50,6 +70,7 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
     public static void reset() {
         for (MultiblockManager<?> manager : managers) {
             manager.inventories.clear();
+            manager.idsByChunk.clear();
         }
     }
 
@@ -71,6 +92,9 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
             }
         }
         inventories.remove(id);
+        for (Coord4D obj : toReturn.locations) {
+            unindex(id, obj);
+        }
         return toReturn;
     }
 
@@ -83,43 +107,110 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
         return UUID.randomUUID().toString();
     }
 
-    public void tickSelf(World world) {
-        ArrayList<String> idsToKill = new ArrayList<>();
-        Map<String, Set<Coord4D>> tilesToKill = new Object2ObjectOpenHashMap<>();
-        for (Entry<String, MultiblockCache<T>> entry : inventories.entrySet()) {
-            String inventoryID = entry.getKey();
-            for (Coord4D obj : entry.getValue().locations) {
-                if (obj.dimension.equals(world.getDimension().getType()) && world.isBlockPresent(obj.getPos())) {
-                    TileEntity tile = MekanismUtils.getTileEntity(world, obj.getPos());
-                    if (!(tile instanceof TileEntityMultiblock) || ((TileEntityMultiblock<?>) tile).getManager() != this ||
-                        (getStructureId(((TileEntityMultiblock<?>) tile)) != null && !Objects.equals(getStructureId(((TileEntityMultiblock<?>) tile)), inventoryID))) {
-                        if (!tilesToKill.containsKey(inventoryID)) {
-                            tilesToKill.put(inventoryID, new ObjectOpenHashSet<>());
+    /**
+     * Adds the location of a multiblock segment to the cache of its inventory ID, using the segment's cached data as the cache if there isn't one yet.
+     *
+     * @param tile - multiblock segment to add
+     *
+     * @return the cache stored for the segment's inventory ID
+     */
+    public MultiblockCache<T> updateCache(TileEntityMultiblock<T> tile) {
+        MultiblockCache<T> cache = inventories.get(tile.cachedID);
+        if (cache == null) {
+            cache = tile.cachedData;
+            inventories.put(tile.cachedID, cache);
+        }
+        Coord4D coord = Coord4D.get(tile);
+        if (cache.locations.add(coord)) {
+            idsByChunk.computeIfAbsent(coord.dimension, dimension -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(getChunkKey(coord), chunk -> new ObjectOpenHashSet<>()).add(tile.cachedID);
+        }
+        return cache;
+    }
+
+    /**
+     * Removes a location from the cache of an inventory ID, for when the segment at it got removed or became part of a different structure. If this was the last
+     * location of the cache, the cache gets removed as well.
+     *
+     * @param id    - inventory ID of the cache
+     * @param coord - location to remove
+     */
+    public void removeLocation(String id, Coord4D coord) {
+        MultiblockCache<T> cache = inventories.get(id);
+        if (cache != null && cache.locations.remove(coord)) {
+            if (cache.locations.isEmpty()) {
+                inventories.remove(id);
+            }
+            //Only remove the id from the chunk if the cache has no other locations in it
+            long chunkKey = getChunkKey(coord);
+            for (Coord4D obj : cache.locations) {
+                if (obj.dimension == coord.dimension && getChunkKey(obj) == chunkKey) {
+                    return;
+                }
+            }
+            unindex(id, coord);
+        }
+    }
+
+    private void unindex(String id, Coord4D coord) {
+        Long2ObjectMap<Set<String>> chunks = idsByChunk.get(coord.dimension);
+        if (chunks != null) {
+            long chunkKey = getChunkKey(coord);
+            Set<String> ids = chunks.get(chunkKey);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                chunks.remove(chunkKey);
+                if (chunks.isEmpty()) {
+                    idsByChunk.remove(coord.dimension);
+                }
+            }
+        }
+    }
+
+    private void validateChunk(IChunk chunk, DimensionType dimension) {
+        Long2ObjectMap<Set<String>> chunks = idsByChunk.get(dimension);
+        if (chunks == null) {
+            return;
+        }
+        ChunkPos chunkPos = chunk.getPos();
+        long chunkKey = chunkPos.asLong();
+        Set<String> ids = chunks.get(chunkKey);
+        if (ids == null) {
+            return;
+        }
+        for (Iterator<String> iterator = ids.iterator(); iterator.hasNext(); ) {
+            String inventoryID = iterator.next();
+            MultiblockCache<T> cache = inventories.get(inventoryID);
+            boolean hasLocation = false;
+            if (cache != null) {
+                for (Iterator<Coord4D> locations = cache.locations.iterator(); locations.hasNext(); ) {
+                    Coord4D obj = locations.next();
+                    if (obj.dimension == dimension && getChunkKey(obj) == chunkKey) {
+                        TileEntity tile = chunk.getTileEntity(obj.getPos());
+                        if (!(tile instanceof TileEntityMultiblock) || tile.isRemoved() || ((TileEntityMultiblock<?>) tile).getManager() != this ||
+                            (getStructureId(((TileEntityMultiblock<?>) tile)) != null && !Objects.equals(getStructureId(((TileEntityMultiblock<?>) tile)), inventoryID))) {
+                            locations.remove();
+                        } else {
+                            hasLocation = true;
                         }
-                        tilesToKill.get(inventoryID).add(obj);
                     }
                 }
+                if (cache.locations.isEmpty()) {
+                    inventories.remove(inventoryID);
+                }
             }
-            if (entry.getValue().locations.isEmpty()) {
-                idsToKill.add(inventoryID);
+            if (!hasLocation) {
+                iterator.remove();
             }
         }
-        for (Entry<String, Set<Coord4D>> entry : tilesToKill.entrySet()) {
-            for (Coord4D obj : entry.getValue()) {
-                inventories.get(entry.getKey()).locations.remove(obj);
+        if (ids.isEmpty()) {
+            chunks.remove(chunkKey);
+            if (chunks.isEmpty()) {
+                idsByChunk.remove(dimension);
             }
         }
-        for (String inventoryID : idsToKill) {
-            inventories.remove(inventoryID);
-        }
     }
 
-    public void updateCache(TileEntityMultiblock<T> tile) {
-        if (!inventories.containsKey(tile.cachedID)) {
-            tile.cachedData.locations.add(Coord4D.get(tile));
-            inventories.put(tile.cachedID, tile.cachedData);
-        } else {
-            inventories.get(tile.cachedID).locations.add(Coord4D.get(tile));
-        }
+    private static long getChunkKey(Coord4D coord) {
+        return ChunkPos.asLong(coord.x >> 4, coord.z >> 4);
     }
 }
\ No newline at end of file
@@ -29,6 +29,11 @@ public abstract class SynchronizedData<T extends SynchronizedData<T>> implements
 
     public boolean didTick;
 
+    /**
+     * Game time at which the cache of this structure was last synced, so that it only gets synced once a tick no matter how many segments the structure has.
+     */
+    public long lastCacheSync = -1;
+
     public boolean hasRenderer;
 
     @Nullable//may be null if structure has not been fully sent
@@ -1,28 +1,42 @@
 package mekanism.common.multiblock;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.common.tile.TileEntityMultiblock;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.dimension.DimensionType;
 
 public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
 
     /**
-     * The multiblock nodes that have already been iterated over.
+     * The multiblock nodes that have already been iterated over, stored as packed positions.
      */
-    public Set<Coord4D> iteratedNodes = new ObjectOpenHashSet<>();
+    public LongSet iteratedNodes = new LongOpenHashSet();
 
-    public Set<Coord4D> innerNodes = new ObjectOpenHashSet<>();
+    /**
+     * The inner nodes of the structure that are not air, stored as packed positions.
+     */
+    public LongSet innerNodes = new LongOpenHashSet();
 
     /**
      * The structures found, all connected by some nodes to the pointer.
@@ -34,6 +48,12 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      */
     public TileEntityMultiblock<T> pointer;
 
+    /**
+     * Chunks that have been looked up while running the protocol, so that checking the blocks of a structure does not need to go through the world for every position.
+     */
+    private final Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+    private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+
     public UpdateProtocol(TileEntityMultiblock<T> tile) {
         pointer = tile;
     }
@@ -64,52 +84,20 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
                 zmin = findViableNode(coord, 0, 0, -1);
             }
 
-            Set<Coord4D> locations = new ObjectOpenHashSet<>();
-            boolean isValid = true;
-
-            int minX = origX + xmin;
-            int maxX = origX + xmax;
-            int minY = origY + ymin;
-            int maxY = origY + ymax;
-            int minZ = origZ + zmin;
-            int maxZ = origZ + zmax;
-            for (int x = xmin; x <= xmax; x++) {
-                int xPos = origX + x;
-                for (int y = ymin; y <= ymax; y++) {
-                    int yPos = origY + y;
-                    for (int z = zmin; z <= zmax; z++) {
-                        int zPos = origZ + z;
-                        if (x == xmin || x == xmax || y == ymin || y == ymax || z == zmin || z == zmax) {
-                            if (!isViableNode(xPos, yPos, zPos) || isFrame(coord.translate(x, y, z), minX, maxX, minY, maxY, minZ, maxZ) && !isValidFrame(xPos, yPos, zPos)) {
-                                //If it is not a valid node or if it is supposed to be a frame but is invalid
-                                // then we are not valid over all
-                                isValid = false;
-                                break;
-                            } else {
-                                locations.add(coord.translate(x, y, z));
-                            }
-                        } else if (!isValidInnerNode(xPos, yPos, zPos)) {
-                            isValid = false;
-                            break;
-                        } else if (!isAir(xPos, yPos, zPos)) {
-                            innerNodes.add(new Coord4D(xPos, yPos, zPos, pointer.getWorld().getDimension().getType()));
-                        }
-                    }
-                    if (!isValid) {
-                        break;
-                    }
-                }
-                if (!isValid) {
-                    break;
-                }
-            }
-
-            if (isValid) {
-                //Check the boolean values before performing other calculations
-                int length = Math.abs(xmax - xmin) + 1;
-                int height = Math.abs(ymax - ymin) + 1;
-                int width = Math.abs(zmax - zmin) + 1;
-                if (length <= 18 && height <= 18 && width <= 18) {
+            int length = xmax - xmin + 1;
+            int height = ymax - ymin + 1;
+            int width = zmax - zmin + 1;
+            //Check the size before checking any of the blocks, so that we don't bother looking at cuboids that can never form
+            if (length >= 3 && height >= 3 && width >= 3 && length <= 18 && height <= 18 && width <= 18) {
+                int minX = origX + xmin;
+                int maxX = origX + xmax;
+                int minY = origY + ymin;
+                int maxY = origY + ymax;
+                int minZ = origZ + zmin;
+                int maxZ = origZ + zmax;
+                Set<Coord4D> locations = new ObjectOpenHashSet<>();
+                //Check the faces one at a time before the inside, so that we stop at the first face that is invalid
+                if (isValidFaces(locations, minX, maxX, minY, maxY, minZ, maxZ) && isValidInside(minX, maxX, minY, maxY, minZ, maxZ)) {
                     T structure = getNewStructure();
                     structure.locations = locations;
                     structure.volLength = length;
@@ -119,14 +107,11 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
                     structure.renderLocation = coord.translate(0, 1, 0);
                     structure.minLocation = coord.translate(xmin, ymin, zmin);
                     structure.maxLocation = coord.translate(xmax, ymax, zmax);
-
-                    if (structure.volLength >= 3 && structure.volHeight >= 3 && structure.volWidth >= 3) {
-                        onStructureCreated(structure, origX, origY, origZ, xmin, xmax, ymin, ymax, zmin, zmax);
-                        if (structure.locations.contains(Coord4D.get(pointer)) && isCorrectCorner(coord, minX, minY, minZ)) {
-                            if (canForm(structure)) {
-                                structureFound = structure;
-                                return;
-                            }
+                    onStructureCreated(structure, origX, origY, origZ, xmin, xmax, ymin, ymax, zmin, zmax);
+                    if (structure.locations.contains(Coord4D.get(pointer)) && isCorrectCorner(coord, minX, minY, minZ)) {
+                        if (canForm(structure)) {
+                            structureFound = structure;
+                            return;
                         }
                     }
                 }
@@ -134,18 +119,71 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
         }
 
         innerNodes.clear();
-        iteratedNodes.add(coord);
+        iteratedNodes.add(BlockPos.pack(origX, origY, origZ));
 
         if (iteratedNodes.size() > 2048) {
             return;
         }
 
         for (Direction side : EnumUtils.DIRECTIONS) {
-            Coord4D sideCoord = coord.offset(side);
-            if (isViableNode(sideCoord.getPos()) && !iteratedNodes.contains(sideCoord)) {
-                queue.addLast(sideCoord);
+            int x = origX + side.getXOffset();
+            int y = origY + side.getYOffset();
+            int z = origZ + side.getZOffset();
+            if (!iteratedNodes.contains(BlockPos.pack(x, y, z)) && isViableNode(x, y, z)) {
+                queue.addLast(coord.offset(side));
+            }
+        }
+    }
+
+    private boolean isValidFaces(Set<Coord4D> locations, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        //West and east faces, including their edges
+        if (!isValidFace(locations, minX, minX, minY, maxY, minZ, maxZ, minX, maxX, minY, maxY, minZ, maxZ) ||
+            !isValidFace(locations, maxX, maxX, minY, maxY, minZ, maxZ, minX, maxX, minY, maxY, minZ, maxZ)) {
+            return false;
+        }
+        //Bottom and top faces, without the edges we already checked
+        if (!isValidFace(locations, minX + 1, maxX - 1, minY, minY, minZ, maxZ, minX, maxX, minY, maxY, minZ, maxZ) ||
+            !isValidFace(locations, minX + 1, maxX - 1, maxY, maxY, minZ, maxZ, minX, maxX, minY, maxY, minZ, maxZ)) {
+            return false;
+        }
+        //North and south faces, without the edges we already checked
+        return isValidFace(locations, minX + 1, maxX - 1, minY + 1, maxY - 1, minZ, minZ, minX, maxX, minY, maxY, minZ, maxZ) &&
+               isValidFace(locations, minX + 1, maxX - 1, minY + 1, maxY - 1, maxZ, maxZ, minX, maxX, minY, maxY, minZ, maxZ);
+    }
+
+    private boolean isValidFace(Set<Coord4D> locations, int fromX, int toX, int fromY, int toY, int fromZ, int toZ, int minX, int maxX, int minY, int maxY, int minZ,
+          int maxZ) {
+        DimensionType dimension = pointer.getWorld().getDimension().getType();
+        for (int x = fromX; x <= toX; x++) {
+            for (int y = fromY; y <= toY; y++) {
+                for (int z = fromZ; z <= toZ; z++) {
+                    if (!isViableNode(x, y, z) || isFrame(x, y, z, minX, maxX, minY, maxY, minZ, maxZ) && !isValidFrame(x, y, z)) {
+                        //If it is not a valid node or if it is supposed to be a frame but is invalid
+                        // then we are not valid over all
+                        return false;
+                    }
+                    locations.add(new Coord4D(x, y, z, dimension));
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isValidInside(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        for (int x = minX + 1; x < maxX; x++) {
+            for (int y = minY + 1; y < maxY; y++) {
+                for (int z = minZ + 1; z < maxZ; z++) {
+                    if (isAir(x, y, z)) {
+                        continue;
+                    }
+                    if (!isValidInnerNode(x, y, z)) {
+                        return false;
+                    }
+                    innerNodes.add(BlockPos.pack(x, y, z));
+                }
             }
         }
+        return true;
     }
 
     protected boolean canForm(T structure) {
@@ -177,7 +215,51 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * @return Whether or not the block at the specified location is an air block.
      */
     protected boolean isAir(int x, int y, int z) {
-        return pointer.getWorld().isAirBlock(new BlockPos(x, y, z));
+        return getBlockState(x, y, z).isAir(pointer.getWorld(), mutablePos);
+    }
+
+    /**
+     * Gets the block state at a position using the chunks cached by this protocol. Positions that are not loaded are treated as air.
+     */
+    protected BlockState getBlockState(int x, int y, int z) {
+        mutablePos.setPos(x, y, z);
+        IChunk chunk = getChunk(x, z);
+        return chunk == null ? Blocks.AIR.getDefaultState() : chunk.getBlockState(mutablePos);
+    }
+
+    /**
+     * Gets the tile at a position using the chunks cached by this protocol.
+     *
+     * @return tile entity if found, null if either not found or not loaded
+     */
+    @Nullable
+    protected TileEntity getTileEntity(int x, int y, int z) {
+        return MekanismUtils.getTileEntity(pointer.getWorld(), chunkMap, mutablePos.setPos(x, y, z));
+    }
+
+    @Nullable
+    protected TileEntity getTileEntity(long pos) {
+        return getTileEntity(BlockPos.unpackX(pos), BlockPos.unpackY(pos), BlockPos.unpackZ(pos));
+    }
+
+    @Nullable
+    private IChunk getChunk(int x, int z) {
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        long combinedChunk = (((long) chunkX) << 32) | (chunkZ & 0xFFFFFFFFL);
+        IChunk chunk = chunkMap.get(combinedChunk);
+        if (chunk == null) {
+            //Get the chunk but don't force load it
+            chunk = pointer.getWorld().getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+            if (chunk != null) {
+                chunkMap.put(combinedChunk, chunk);
+            }
+        }
+        return chunk;
+    }
+
+    protected Coord4D getCoord(long pos) {
+        return new Coord4D(BlockPos.unpackX(pos), BlockPos.unpackY(pos), BlockPos.unpackZ(pos), pointer.getWorld().getDimension().getType());
     }
 
     protected boolean isValidInnerNode(int x, int y, int z) {
@@ -223,7 +305,7 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * @return Whether or not the block at the specified location is a viable node for a multiblock structure.
      */
     public boolean isViableNode(int x, int y, int z) {
-        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), new BlockPos(x, y, z));
+        TileEntity tile = getTileEntity(x, y, z);
         if (tile instanceof IStructuralMultiblock && ((IStructuralMultiblock) tile).canInterface(pointer)) {
             return true;
         }
@@ -253,7 +335,9 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
     }
 
     /**
-     * @param obj  - location to check
+     * @param x    - x coordinate
+     * @param y    - y coordinate
+     * @param z    - z coordinate
      * @param xmin - minimum x value
      * @param xmax - maximum x value
      * @param ymin - minimum y value
@@ -263,10 +347,10 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      *
      * @return Whether or not the block at the specified location is considered a frame on the multiblock structure.
      */
-    private boolean isFrame(Coord4D obj, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax) {
-        boolean xMatches = obj.x == xmin || obj.x == xmax;
-        boolean yMatches = obj.y == ymin || obj.y == ymax;
-        boolean zMatches = obj.z == zmin || obj.z == zmax;
+    private boolean isFrame(int x, int y, int z, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax) {
+        boolean xMatches = x == xmin || x == xmax;
+        boolean yMatches = y == ymin || y == ymax;
+        boolean zMatches = z == zmin || z == zmax;
         return xMatches && yMatches || xMatches && zMatches || yMatches && zMatches;
     }
 
@@ -305,6 +389,15 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
         }
     }
 
+    private void killInnerNodes(LongSet nodes) {
+        for (LongIterator iterator = nodes.iterator(); iterator.hasNext(); ) {
+            TileEntity tile = getTileEntity(iterator.nextLong());
+            if (tile instanceof TileEntityInternalMultiblock) {
+                ((TileEntityInternalMultiblock) tile).setMultiblock(null);
+            }
+        }
+    }
+
     private void killInnerNode(Coord4D coord) {
         TileEntityInternalMultiblock tile = MekanismUtils.getTileEntity(TileEntityInternalMultiblock.class, pointer.getWorld(), coord.getPos());
         if (tile != null) {
@@ -320,25 +413,23 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
         pathingQueue.add(Coord4D.get(pointer));
         while (pathingQueue.peek() != null) {
             Coord4D next = pathingQueue.removeFirst();
-            if (!iteratedNodes.contains(next)) {
+            if (!iteratedNodes.contains(BlockPos.pack(next.x, next.y, next.z))) {
                 loopThrough(next, pathingQueue);
             }
         }
 
         if (structureFound != null) {
-            for (Coord4D coord : iteratedNodes) {
-                if (!structureFound.locations.contains(coord)) {
-                    for (Coord4D newCoord : iteratedNodes) {
-                        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), newCoord.getPos());
+            for (LongIterator iterator = iteratedNodes.iterator(); iterator.hasNext(); ) {
+                if (!structureFound.locations.contains(getCoord(iterator.nextLong()))) {
+                    for (LongIterator nodes = iteratedNodes.iterator(); nodes.hasNext(); ) {
+                        TileEntity tile = getTileEntity(nodes.nextLong());
                         if (tile instanceof TileEntityMultiblock) {
                             ((TileEntityMultiblock<?>) tile).structure = null;
                         } else if (tile instanceof IStructuralMultiblock) {
                             ((IStructuralMultiblock) tile).setController(null);
                         }
                     }
-                    for (Coord4D newCoord : innerNodes) {
-                        killInnerNode(newCoord);
-                    }
+                    killInnerNodes(innerNodes);
                     return;
                 }
             }
@@ -398,8 +489,8 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
                 structureFound.locations.remove(Coord4D.get((TileEntity) node));
             }
         } else {
-            for (Coord4D coord : iteratedNodes) {
-                TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), coord.getPos());
+            for (LongIterator iterator = iteratedNodes.iterator(); iterator.hasNext(); ) {
+                TileEntity tile = getTileEntity(iterator.nextLong());
                 if (tile instanceof TileEntityMultiblock) {
                     TileEntityMultiblock<T> tileEntity = (TileEntityMultiblock<T>) tile;
                     if (tileEntity.structure != null && !tileEntity.structure.destroyed) {
@@ -411,9 +502,7 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
                     ((IStructuralMultiblock) tile).setController(null);
                 }
             }
-            for (Coord4D coord : innerNodes) {
-                killInnerNode(coord);
-            }
+            killInnerNodes(innerNodes);
         }
     }
 
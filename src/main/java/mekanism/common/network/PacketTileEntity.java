@@ -5,7 +5,9 @@ import mekanism.api.Coord4D;
 import mekanism.api.TileNetworkList;
 import mekanism.common.Mekanism;
 import mekanism.common.PacketHandler;
+import mekanism.common.base.IPacketDataWriter;
 import mekanism.common.base.ITileNetwork;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.network.PacketBuffer;
@@ -18,6 +20,7 @@ import net.minecraftforge.fml.server.ServerLifecycleHooks;
 public class PacketTileEntity {
 
     private TileNetworkList parameters;
+    private IPacketDataWriter writer;
     private PacketBuffer storedBuffer;
     private Coord4D coord4D;
 
@@ -30,6 +33,15 @@ public class PacketTileEntity {
         parameters = params;
     }
 
+    public PacketTileEntity(TileEntity tile, IPacketDataWriter writer) {
+        this(Coord4D.get(tile), writer);
+    }
+
+    public PacketTileEntity(Coord4D coord, IPacketDataWriter writer) {
+        this(coord);
+        this.writer = writer;
+    }
+
     private PacketTileEntity(Coord4D coord) {
         coord4D = coord;
     }
@@ -55,12 +67,18 @@ public class PacketTileEntity {
 
     public static void encode(PacketTileEntity pkt, PacketBuffer buf) {
         pkt.coord4D.write(buf);
-        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
-        if (server != null) {
-            World world = server.getWorld(pkt.coord4D.dimension);
-            PacketHandler.log("Sending TileEntity packet from coordinate " + pkt.coord4D + " (" + MekanismUtils.getTileEntity(world, pkt.coord4D.getPos()) + ")");
+        if (MekanismConfig.general.logPackets.get()) {
+            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            if (server != null) {
+                World world = server.getWorld(pkt.coord4D.dimension);
+                PacketHandler.log("Sending TileEntity packet from coordinate " + pkt.coord4D + " (" + MekanismUtils.getTileEntity(world, pkt.coord4D.getPos()) + ")");
+            }
+        }
+        if (pkt.writer == null) {
+            PacketHandler.encode(pkt.parameters.toArray(), buf);
+        } else {
+            pkt.writer.write(buf);
         }
-        PacketHandler.encode(pkt.parameters.toArray(), buf);
     }
 
     public static PacketTileEntity decode(PacketBuffer buf) {
@@ -10,6 +10,7 @@ import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.api.transmitters.TransmissionType;
+import mekanism.common.Mekanism;
 import mekanism.common.PacketHandler;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
@@ -101,6 +102,7 @@ public class PacketTransmitterUpdate {
                               .ifPresent(gridTransmitter -> ((IGridTransmitter) gridTransmitter).setTransmitterNetwork(network));
                     }
                     network.updateCapacity();
+                    Mekanism.proxy.onNetworkContentsChanged(network);
                     return;
                 }
                 if (MekanismConfig.client.opaqueTransmitters.get() || !transmitter.hasTransmitterNetwork()) {
@@ -124,6 +126,7 @@ public class PacketTransmitterUpdate {
                         net.fluidScale = message.fluidScale;
                     }
                 }
+                Mekanism.proxy.onNetworkContentsChanged(transmitter.getTransmitterNetwork());
             }
         });
         context.get().setPacketHandled(true);
@@ -0,0 +1,127 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import mekanism.api.Range3D;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+
+/**
+ * Keeps track of which players are watching chunks in which regions of each dimension, so that packets for things that cover an area, such as transmitter networks, can
+ * be sent to the players that can see that area without having to check every player on the server.
+ */
+public class PlayerInterestTracker {
+
+    /**
+     * Regions are {@code 1 << REGION_SHIFT} chunks wide.
+     */
+    private static final int REGION_SHIFT = 3;
+
+    /**
+     * Players watching chunks in each region, keyed by the packed region position, mapped to how many chunks of the region they are watching.
+     */
+    private static final Map<DimensionType, Long2ObjectMap<Object2IntOpenHashMap<ServerPlayerEntity>>> watchedRegions = new Object2ObjectOpenHashMap<>();
+
+    public static void onChunkWatch(ChunkWatchEvent.Watch event) {
+        ChunkPos pos = event.getPos();
+        watchedRegions.computeIfAbsent(event.getWorld().getDimension().getType(), dimension -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(getRegionKey(pos.x, pos.z), key -> new Object2IntOpenHashMap<>())
+              .addTo(event.getPlayer(), 1);
+    }
+
+    public static void onChunkUnWatch(ChunkWatchEvent.UnWatch event) {
+        DimensionType dimension = event.getWorld().getDimension().getType();
+        Long2ObjectMap<Object2IntOpenHashMap<ServerPlayerEntity>> regions = watchedRegions.get(dimension);
+        if (regions != null) {
+            ChunkPos pos = event.getPos();
+            long regionKey = getRegionKey(pos.x, pos.z);
+            Object2IntOpenHashMap<ServerPlayerEntity> players = regions.get(regionKey);
+            if (players != null && players.addTo(event.getPlayer(), -1) <= 1) {
+                //Player is no longer watching any chunks in the region
+                players.removeInt(event.getPlayer());
+                if (players.isEmpty()) {
+                    regions.remove(regionKey);
+                    if (regions.isEmpty()) {
+                        watchedRegions.remove(dimension);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a player from every region, in case they stopped being tracked without us being told they stopped watching their chunks.
+     */
+    public static void removePlayer(PlayerEntity player) {
+        for (Iterator<Long2ObjectMap<Object2IntOpenHashMap<ServerPlayerEntity>>> dimensionIterator = watchedRegions.values().iterator(); dimensionIterator.hasNext(); ) {
+            Long2ObjectMap<Object2IntOpenHashMap<ServerPlayerEntity>> regions = dimensionIterator.next();
+            for (ObjectIterator<Object2IntOpenHashMap<ServerPlayerEntity>> iterator = regions.values().iterator(); iterator.hasNext(); ) {
+                Object2IntOpenHashMap<ServerPlayerEntity> players = iterator.next();
+                players.removeInt(player);
+                if (players.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+            if (regions.isEmpty()) {
+                dimensionIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the players that are watching chunks in or near the given range.
+     *
+     * @apiNote Players watching chunks in the same region as the range, but outside of the range itself, are included.
+     */
+    public static Set<ServerPlayerEntity> getWatchingPlayers(Range3D range) {
+        Long2ObjectMap<Object2IntOpenHashMap<ServerPlayerEntity>> regions = watchedRegions.get(range.dimension);
+        if (regions == null) {
+            return Collections.emptySet();
+        }
+        int minX = range.xMin >> (4 + REGION_SHIFT);
+        int minZ = range.zMin >> (4 + REGION_SHIFT);
+        int maxX = range.xMax >> (4 + REGION_SHIFT);
+        int maxZ = range.zMax >> (4 + REGION_SHIFT);
+        Set<ServerPlayerEntity> players = new ObjectOpenHashSet<>();
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > regions.size()) {
+            //The range covers more regions than are being watched, so just go through the watched ones
+            for (Long2ObjectMap.Entry<Object2IntOpenHashMap<ServerPlayerEntity>> entry : regions.long2ObjectEntrySet()) {
+                long regionKey = entry.getLongKey();
+                int x = ChunkPos.getX(regionKey);
+                int z = ChunkPos.getZ(regionKey);
+                if (x >= minX && x <= maxX && z >= minZ && z <= maxZ) {
+                    players.addAll(entry.getValue().keySet());
+                }
+            }
+        } else {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    Object2IntOpenHashMap<ServerPlayerEntity> watching = regions.get(ChunkPos.asLong(x, z));
+                    if (watching != null) {
+                        players.addAll(watching.keySet());
+                    }
+                }
+            }
+        }
+        return players;
+    }
+
+    private static long getRegionKey(int chunkX, int chunkZ) {
+        return ChunkPos.asLong(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+    }
+
+    public static void reset() {
+        watchedRegions.clear();
+    }
+}
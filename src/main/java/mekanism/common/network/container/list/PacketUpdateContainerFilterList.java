@@ -9,19 +9,21 @@ import net.minecraft.network.PacketBuffer;
 
 public class PacketUpdateContainerFilterList<FILTER extends IFilter<?>> extends PacketUpdateContainerList<FILTER> {
 
-    public PacketUpdateContainerFilterList(short windowId, short property, @Nonnull List<FILTER> values) {
-        super(windowId, property, values);
+    public PacketUpdateContainerFilterList(short windowId, short property, @Nonnull List<FILTER> values, int start, int removed) {
+        super(windowId, property, values, start, removed);
     }
 
     public static <FILTER extends IFilter<?>> PacketUpdateContainerFilterList<FILTER> decode(PacketBuffer buffer) {
         short windowId = buffer.readUnsignedByte();
         short property = buffer.readShort();
+        int start = buffer.readVarInt() - 1;
+        int removed = start == -1 ? 0 : buffer.readVarInt();
         int elements = buffer.readVarInt();
         List<FILTER> values = new ArrayList<>(elements);
         for (int i = 0; i < elements; i++) {
             values.add((FILTER) BaseFilter.readFromPacket(buffer));
         }
-        return new PacketUpdateContainerFilterList<>(windowId, property, values);
+        return new PacketUpdateContainerFilterList<>(windowId, property, values, start, removed);
     }
 
     @Override
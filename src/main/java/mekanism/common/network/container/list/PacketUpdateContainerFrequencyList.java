@@ -8,19 +8,21 @@ import net.minecraft.network.PacketBuffer;
 
 public class PacketUpdateContainerFrequencyList<FREQUENCY extends Frequency> extends PacketUpdateContainerList<FREQUENCY> {
 
-    public PacketUpdateContainerFrequencyList(short windowId, short property, @Nonnull List<FREQUENCY> values) {
-        super(windowId, property, values);
+    public PacketUpdateContainerFrequencyList(short windowId, short property, @Nonnull List<FREQUENCY> values, int start, int removed) {
+        super(windowId, property, values, start, removed);
     }
 
     public static <FREQUENCY extends Frequency> PacketUpdateContainerFrequencyList<FREQUENCY> decode(PacketBuffer buffer) {
         short windowId = buffer.readUnsignedByte();
         short property = buffer.readShort();
+        int start = buffer.readVarInt() - 1;
+        int removed = start == -1 ? 0 : buffer.readVarInt();
         int elements = buffer.readVarInt();
         List<FREQUENCY> values = new ArrayList<>(elements);
         for (int i = 0; i < elements; i++) {
             values.add((FREQUENCY) Frequency.readFromPacket(buffer));
         }
-        return new PacketUpdateContainerFrequencyList<>(windowId, property, values);
+        return new PacketUpdateContainerFrequencyList<>(windowId, property, values, start, removed);
     }
 
     @Override
@@ -13,15 +13,26 @@ public abstract class PacketUpdateContainerList<TYPE> extends PacketUpdateContai
 
     @Nonnull
     protected final List<TYPE> values;
+    /**
+     * Index the values replace {@link #removed} elements at, or {@code -1} if the values are the entire list.
+     */
+    protected final int start;
+    protected final int removed;
 
-    public PacketUpdateContainerList(short windowId, short property, @Nonnull List<TYPE> values) {
+    public PacketUpdateContainerList(short windowId, short property, @Nonnull List<TYPE> values, int start, int removed) {
         super(windowId, property);
         this.values = values;
+        this.start = start;
+        this.removed = removed;
     }
 
     @Override
     protected void encode(PacketBuffer buffer) {
         super.encode(buffer);
+        buffer.writeVarInt(start + 1);
+        if (start != -1) {
+            buffer.writeVarInt(removed);
+        }
         buffer.writeVarInt(values.size());
         writeListElements(buffer);
     }
@@ -30,6 +41,6 @@ public abstract class PacketUpdateContainerList<TYPE> extends PacketUpdateContai
 
     @Override
     protected void handle(MekanismContainer container, PacketUpdateContainerList<TYPE> message) {
-        container.handleWindowProperty(message.property, message.values);
+        container.handleWindowProperty(message.property, message.values, message.start, message.removed);
     }
 }
\ No newline at end of file
@@ -8,19 +8,21 @@ import net.minecraft.network.PacketBuffer;
 
 public class PacketUpdateContainerStringList extends PacketUpdateContainerList<String> {
 
-    public PacketUpdateContainerStringList(short windowId, short property, @Nonnull List<String> values) {
-        super(windowId, property, values);
+    public PacketUpdateContainerStringList(short windowId, short property, @Nonnull List<String> values, int start, int removed) {
+        super(windowId, property, values, start, removed);
     }
 
     public static PacketUpdateContainerStringList decode(PacketBuffer buffer) {
         short windowId = buffer.readUnsignedByte();
         short property = buffer.readShort();
+        int start = buffer.readVarInt() - 1;
+        int removed = start == -1 ? 0 : buffer.readVarInt();
         int elements = buffer.readVarInt();
         List<String> values = new ArrayList<>(elements);
         for (int i = 0; i < elements; i++) {
             values.add(PacketHandler.readString(buffer));
         }
-        return new PacketUpdateContainerStringList(windowId, property, values);
+        return new PacketUpdateContainerStringList(windowId, property, values, start, removed);
     }
 
     @Override
@@ -12,19 +12,18 @@ import net.minecraft.network.PacketBuffer;
 
 public class FilterListPropertyData<FILTER extends IFilter<?>> extends ListPropertyData<FILTER> {
 
-    public FilterListPropertyData(short property, @Nonnull List<FILTER> values) {
-        super(property, ListType.FILTER, values);
+    public FilterListPropertyData(short property, @Nonnull List<FILTER> values, int start, int removed) {
+        super(property, ListType.FILTER, values, start, removed);
     }
 
-    public static <FILTER extends IFilter<?>> FilterListPropertyData<FILTER> read(short property, int elements, PacketBuffer buffer) {
+    public static <FILTER extends IFilter<?>> FilterListPropertyData<FILTER> read(short property, int start, int removed, int elements, PacketBuffer buffer) {
         List<FILTER> values = new ArrayList<>(elements);
         for (int i = 0; i < elements; i++) {
             values.add((FILTER) BaseFilter.readFromPacket(buffer));
         }
-        return new FilterListPropertyData<>(property, values);
+        return new FilterListPropertyData<>(property, values, start, removed);
     }
 
-
     @Override
     protected void writeListElements(PacketBuffer buffer) {
         for (FILTER value : values) {
@@ -34,6 +33,6 @@ public class FilterListPropertyData<FILTER extends IFilter<?>> extends ListPrope
 
     @Override
     public PacketUpdateContainerList<?> getSinglePacket(short windowId) {
-        return new PacketUpdateContainerFilterList<>(windowId, getProperty(), values);
+        return new PacketUpdateContainerFilterList<>(windowId, getProperty(), values, start, removed);
     }
 }
\ No newline at end of file
@@ -10,19 +10,18 @@ import net.minecraft.network.PacketBuffer;
 
 public class FrequencyListPropertyData<FREQUENCY extends Frequency> extends ListPropertyData<FREQUENCY> {
 
-    public FrequencyListPropertyData(short property, @Nonnull List<FREQUENCY> values) {
-        super(property, ListType.FREQUENCY, values);
+    public FrequencyListPropertyData(short property, @Nonnull List<FREQUENCY> values, int start, int removed) {
+        super(property, ListType.FREQUENCY, values, start, removed);
     }
 
-    public static <FREQUENCY extends Frequency> FrequencyListPropertyData<FREQUENCY> read(short property, int elements, PacketBuffer buffer) {
+    public static <FREQUENCY extends Frequency> FrequencyListPropertyData<FREQUENCY> read(short property, int start, int removed, int elements, PacketBuffer buffer) {
         List<FREQUENCY> values = new ArrayList<>(elements);
         for (int i = 0; i < elements; i++) {
             values.add((FREQUENCY) Frequency.readFromPacket(buffer));
         }
-        return new FrequencyListPropertyData<>(property, values);
+        return new FrequencyListPropertyData<>(property, values, start, removed);
     }
 
-
     @Override
     protected void writeListElements(PacketBuffer buffer) {
         for (FREQUENCY value : values) {
@@ -32,6 +31,6 @@ public class FrequencyListPropertyData<FREQUENCY extends Frequency> extends List
 
     @Override
     public PacketUpdateContainerFrequencyList<?> getSinglePacket(short windowId) {
-        return new PacketUpdateContainerFrequencyList<>(windowId, getProperty(), values);
+        return new PacketUpdateContainerFrequencyList<>(windowId, getProperty(), values, start, removed);
     }
 }
\ No newline at end of file
@@ -14,24 +14,33 @@ public abstract class ListPropertyData<TYPE> extends PropertyData {
 
     @Nonnull
     protected final List<TYPE> values;
+    /**
+     * Index the values replace {@link #removed} elements at, or {@code -1} if the values are the entire list.
+     */
+    protected final int start;
+    protected final int removed;
     private final ListType listType;
 
-    public ListPropertyData(short property, ListType listType, @Nonnull List<TYPE> values) {
+    public ListPropertyData(short property, ListType listType, @Nonnull List<TYPE> values, int start, int removed) {
         super(PropertyType.LIST, property);
         this.listType = listType;
         this.values = values;
+        this.start = start;
+        this.removed = removed;
     }
 
     public static <TYPE> ListPropertyData<TYPE> readList(short property, PacketBuffer buffer) {
         ListType listType = buffer.readEnumValue(ListType.class);
+        int start = buffer.readVarInt() - 1;
+        int removed = start == -1 ? 0 : buffer.readVarInt();
         int elements = buffer.readVarInt();
         switch (listType) {
             case STRING:
-                return (ListPropertyData<TYPE>) StringListPropertyData.read(property, elements, buffer);
+                return (ListPropertyData<TYPE>) StringListPropertyData.read(property, start, removed, elements, buffer);
             case FILTER:
-                return (ListPropertyData<TYPE>) FilterListPropertyData.read(property, elements, buffer);
+                return (ListPropertyData<TYPE>) FilterListPropertyData.read(property, start, removed, elements, buffer);
             case FREQUENCY:
-                return (ListPropertyData<TYPE>) FrequencyListPropertyData.read(property, elements, buffer);
+                return (ListPropertyData<TYPE>) FrequencyListPropertyData.read(property, start, removed, elements, buffer);
             default:
                 Mekanism.logger.error("Unrecognized list type received: {}", listType);
                 return null;
@@ -40,13 +49,17 @@ public abstract class ListPropertyData<TYPE> extends PropertyData {
 
     @Override
     public void handleWindowProperty(MekanismContainer container) {
-        container.handleWindowProperty(getProperty(), values);
+        container.handleWindowProperty(getProperty(), values, start, removed);
     }
 
     @Override
     public void writeToPacket(PacketBuffer buffer) {
         super.writeToPacket(buffer);
         buffer.writeEnumValue(listType);
+        buffer.writeVarInt(start + 1);
+        if (start != -1) {
+            buffer.writeVarInt(removed);
+        }
         buffer.writeVarInt(values.size());
         writeListElements(buffer);
     }
@@ -10,19 +10,18 @@ import net.minecraft.network.PacketBuffer;
 
 public class StringListPropertyData extends ListPropertyData<String> {
 
-    public StringListPropertyData(short property, @Nonnull List<String> values) {
-        super(property, ListType.STRING, values);
+    public StringListPropertyData(short property, @Nonnull List<String> values, int start, int removed) {
+        super(property, ListType.STRING, values, start, removed);
     }
 
-    public static StringListPropertyData read(short property, int elements, PacketBuffer buffer) {
+    public static StringListPropertyData read(short property, int start, int removed, int elements, PacketBuffer buffer) {
         List<String> values = new ArrayList<>(elements);
         for (int i = 0; i < elements; i++) {
             values.add(PacketHandler.readString(buffer));
         }
-        return new StringListPropertyData(property, values);
+        return new StringListPropertyData(property, values, start, removed);
     }
 
-
     @Override
     protected void writeListElements(PacketBuffer buffer) {
         for (String value : values) {
@@ -32,6 +31,6 @@ public class StringListPropertyData extends ListPropertyData<String> {
 
     @Override
     public PacketUpdateContainerStringList getSinglePacket(short windowId) {
-        return new PacketUpdateContainerStringList(windowId, getProperty(), values);
+        return new PacketUpdateContainerStringList(windowId, getProperty(), values, start, removed);
     }
 }
\ No newline at end of file
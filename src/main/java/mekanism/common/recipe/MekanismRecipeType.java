@@ -1,14 +1,23 @@
 package mekanism.common.recipe;
 
+import it.unimi.dsi.fastutil.objects.Object2BooleanLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.chemical.gas.Gas;
+import mekanism.api.chemical.infuse.InfuseType;
 import mekanism.api.inventory.IgnoredIInventory;
 import mekanism.api.recipes.ChemicalInfuserRecipe;
 import mekanism.api.recipes.CombinerRecipe;
@@ -28,20 +37,28 @@ import mekanism.api.recipes.MetallurgicInfuserRecipe;
 import mekanism.api.recipes.PressurizedReactionRecipe;
 import mekanism.api.recipes.RotaryRecipe;
 import mekanism.api.recipes.SawmillRecipe;
+import mekanism.api.recipes.inputs.FluidStackIngredient;
+import mekanism.api.recipes.inputs.GasStackIngredient;
+import mekanism.api.recipes.inputs.InfusionIngredient;
+import mekanism.api.recipes.inputs.InputIngredient;
 import mekanism.api.recipes.inputs.ItemStackIngredient;
 import mekanism.common.Mekanism;
 import mekanism.common.recipe.impl.SmeltingIRecipe;
+import net.minecraft.fluid.Fluid;
 import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.IRecipeSerializer;
 import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.registries.IForgeRegistry;
 
 //TODO: Should this be moved to API package?
@@ -49,48 +66,53 @@ import net.minecraftforge.registries.IForgeRegistry;
 public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements IRecipeType<RECIPE_TYPE> {
 
     private static final List<MekanismRecipeType<? extends MekanismRecipe>> types = new ArrayList<>();
+    /**
+     * Maximum number of inputs to remember the validity of for each input of a recipe type, once reached the least recently used input gets forgotten.
+     */
+    private static final int MAX_CACHED_INPUTS = 1_024;
 
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting");
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing", ItemStackToItemStackRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching", ItemStackToItemStackRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting", ItemStackToItemStackRecipe::getInput);
 
-    public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing");
+    public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing", ChemicalInfuserRecipe::getLeftInput, ChemicalInfuserRecipe::getRightInput);
 
-    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining");
+    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining", CombinerRecipe::getMainInput, CombinerRecipe::getExtraInput);
 
-    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating");
+    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating", ElectrolysisRecipe::getInput);
 
-    public static final MekanismRecipeType<FluidGasToGasRecipe> WASHING = create("washing");
+    public static final MekanismRecipeType<FluidGasToGasRecipe> WASHING = create("washing", FluidGasToGasRecipe::getFluidInput, FluidGasToGasRecipe::getGasInput);
 
-    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating");
+    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating", FluidToFluidRecipe::getInput);
 
-    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating");
+    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating", GasToGasRecipe::getInput);
 
-    public static final MekanismRecipeType<GasToItemStackRecipe> CRYSTALLIZING = create("crystallizing");
+    public static final MekanismRecipeType<GasToItemStackRecipe> CRYSTALLIZING = create("crystallizing", GasToItemStackRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackGasToGasRecipe> DISSOLUTION = create("dissolution");
+    public static final MekanismRecipeType<ItemStackGasToGasRecipe> DISSOLUTION = create("dissolution", ItemStackGasToGasRecipe::getItemInput, ItemStackGasToGasRecipe::getGasInput);
 
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting");
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing", ItemStackGasToItemStackRecipe::getItemInput, ItemStackGasToItemStackRecipe::getGasInput);
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying", ItemStackGasToItemStackRecipe::getItemInput, ItemStackGasToItemStackRecipe::getGasInput);
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting", ItemStackGasToItemStackRecipe::getItemInput, ItemStackGasToItemStackRecipe::getGasInput);
 
-    public static final MekanismRecipeType<ItemStackToEnergyRecipe> ENERGY_CONVERSION = create("energy_conversion");
+    public static final MekanismRecipeType<ItemStackToEnergyRecipe> ENERGY_CONVERSION = create("energy_conversion", ItemStackToEnergyRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion");
-    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing");
+    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion", ItemStackToGasRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing", ItemStackToGasRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion");
+    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion", ItemStackToInfuseTypeRecipe::getInput);
 
-    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing");
+    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing", MetallurgicInfuserRecipe::getInfusionInput, MetallurgicInfuserRecipe::getItemInput);
 
-    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction");
+    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction", PressurizedReactionRecipe::getInputSolid, PressurizedReactionRecipe::getInputFluid, PressurizedReactionRecipe::getInputGas);
 
-    public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary");
+    public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary", RotaryRecipe::getFluidInput, RotaryRecipe::getGasInput);
 
-    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing");
+    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing", SawmillRecipe::getInput);
 
-    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name) {
-        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name);
+    @SafeVarargs
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name, Function<RECIPE_TYPE, InputIngredient<?>>... inputs) {
+        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name, inputs);
         types.add(type);
         return type;
     }
@@ -102,14 +124,24 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     public static void clearCache() {
         //TODO: Does this need to also get cleared on disconnect
-        types.forEach(type -> type.cachedRecipes.clear());
+        types.forEach(type -> {
+            type.cachedRecipes.clear();
+            type.inputIndex = null;
+        });
     }
 
     private List<RECIPE_TYPE> cachedRecipes = Collections.emptyList();
+    /**
+     * Recipes keyed by the item, fluid, gas or infuse type of any of the inputs they can accept, built alongside {@link #cachedRecipes}.
+     */
+    @Nullable
+    private RecipeInputIndex inputIndex;
     private final ResourceLocation registryName;
+    private final Function<RECIPE_TYPE, InputIngredient<?>>[] inputs;
 
-    private MekanismRecipeType(String name) {
+    private MekanismRecipeType(String name, Function<RECIPE_TYPE, InputIngredient<?>>[] inputs) {
         this.registryName = Mekanism.rl(name);
+        this.inputs = inputs;
     }
 
     @Override
@@ -155,10 +187,20 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
                 }
             }
             cachedRecipes = recipes;
+            inputIndex = null;
         }
         return cachedRecipes;
     }
 
+    private RecipeInputIndex getInputIndex(@Nullable World world) {
+        List<RECIPE_TYPE> recipes = getRecipes(world);
+        RecipeInputIndex index = inputIndex;
+        if (index == null || index.recipes != recipes) {
+            inputIndex = index = new RecipeInputIndex(recipes);
+        }
+        return index;
+    }
+
     public Stream<RECIPE_TYPE> stream(@Nullable World world) {
         return getRecipes(world).stream();
     }
@@ -171,4 +213,229 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
     public boolean contains(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
         return stream(world).anyMatch(matchCriteria);
     }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that have an input that may accept the given stack.
+     *
+     * @param input         Stack that the match criteria checks against, used to narrow down which recipes need checking.
+     * @param matchCriteria Criteria the recipe must match, this is still checked for every candidate.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull ItemStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return getInputIndex(world).findFirst(input.getItem(), matchCriteria);
+    }
+
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull FluidStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return getInputIndex(world).findFirst(input.getFluid(), matchCriteria);
+    }
+
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull ChemicalStack<?> input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return getInputIndex(world).findFirst(input.getType(), matchCriteria);
+    }
+
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull Chemical<?> input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return getInputIndex(world).findFirst(input, matchCriteria);
+    }
+
+    /**
+     * Checks if there is a recipe that matches the given criteria, only checking the recipes that have an input that may accept the given stack.
+     *
+     * @param input         Stack that the match criteria checks against, used to narrow down which recipes need checking.
+     * @param matchCriteria Criteria the recipe must match, this is still checked for every candidate.
+     */
+    public boolean contains(@Nullable World world, @Nonnull ItemStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull FluidStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull ChemicalStack<?> input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull Chemical<?> input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    /**
+     * Checks if any recipe's input at the given index accepts the given stack, ignoring the size of the stack and the other inputs. The result is remembered until the
+     * recipes get reloaded, so that repeatedly offering the same stack (for example by a pipe) does not need to check the recipes again.
+     *
+     * @param input Index of the input in the order the inputs were given when creating this recipe type.
+     */
+    public boolean containsInput(@Nullable World world, int input, @Nonnull ItemStack stack) {
+        Item item = stack.getItem();
+        CompoundNBT tag = stack.getTag();
+        return getInputIndex(world).containsInput(input, item, tag == null ? item : new TaggedInput(item, tag),
+              recipe -> ((ItemStackIngredient) inputs[input].apply(recipe)).testType(stack));
+    }
+
+    public boolean containsInput(@Nullable World world, int input, @Nonnull FluidStack stack) {
+        Fluid fluid = stack.getFluid();
+        CompoundNBT tag = stack.getTag();
+        return getInputIndex(world).containsInput(input, fluid, tag == null ? fluid : new TaggedInput(fluid, tag),
+              recipe -> ((FluidStackIngredient) inputs[input].apply(recipe)).testType(stack));
+    }
+
+    public boolean containsInput(@Nullable World world, int input, @Nonnull Gas gas) {
+        return getInputIndex(world).containsInput(input, gas, gas, recipe -> ((GasStackIngredient) inputs[input].apply(recipe)).testType(gas));
+    }
+
+    public boolean containsInput(@Nullable World world, int input, @Nonnull InfuseType infuseType) {
+        return getInputIndex(world).containsInput(input, infuseType, infuseType, recipe -> ((InfusionIngredient) inputs[input].apply(recipe)).testType(infuseType));
+    }
+
+    /**
+     * Index of the recipes by the registry entries (item, fluid, gas or infuse type) that their inputs represent. As an input may check more than just the type (for
+     * example NBT sensitive item ingredients), the index only narrows down the candidates and the match criteria still gets checked for each of them. Recipes where
+     * we can't tell what an input accepts are kept in a separate list that always gets checked.
+     */
+    private class RecipeInputIndex {
+
+        private final List<RECIPE_TYPE> recipes;
+        private final Map<Object, List<RECIPE_TYPE>> byInput = new Reference2ObjectOpenHashMap<>();
+        private final List<RECIPE_TYPE> unindexed = new ArrayList<>();
+        /**
+         * Position of each recipe in the recipe list, so that we still find the first matching recipe in list order when both an indexed and an unindexed recipe
+         * match.
+         */
+        private final Reference2IntMap<RECIPE_TYPE> recipeIndices = new Reference2IntOpenHashMap<>();
+        /**
+         * Known validity of the inputs checked by {@link #containsInput(int, Object, Object, Predicate)}, for each input of the recipe type.
+         */
+        private final Object2BooleanLinkedOpenHashMap<Object>[] validInputs;
+
+        @SuppressWarnings("unchecked")
+        private RecipeInputIndex(List<RECIPE_TYPE> recipes) {
+            this.recipes = recipes;
+            validInputs = new Object2BooleanLinkedOpenHashMap[inputs.length];
+            for (int i = 0; i < validInputs.length; i++) {
+                validInputs[i] = new Object2BooleanLinkedOpenHashMap<>();
+            }
+            for (int i = 0; i < recipes.size(); i++) {
+                RECIPE_TYPE recipe = recipes.get(i);
+                recipeIndices.putIfAbsent(recipe, i);
+                if (inputs.length == 0) {
+                    unindexed.add(recipe);
+                    continue;
+                }
+                for (Function<RECIPE_TYPE, InputIngredient<?>> input : inputs) {
+                    List<?> representations = input.apply(recipe).getRepresentations();
+                    if (representations.isEmpty()) {
+                        //We don't know what this input accepts, always check the recipe
+                        unindexed.add(recipe);
+                        break;
+                    }
+                    for (Object representation : representations) {
+                        List<RECIPE_TYPE> candidates = byInput.computeIfAbsent(getKey(representation), key -> new ArrayList<>());
+                        //Recipes get added in order, so if it is already a candidate for this key it will be the last element
+                        if (candidates.isEmpty() || candidates.get(candidates.size() - 1) != recipe) {
+                            candidates.add(recipe);
+                        }
+                    }
+                }
+            }
+        }
+
+        private Object getKey(Object representation) {
+            if (representation instanceof ItemStack) {
+                return ((ItemStack) representation).getItem();
+            } else if (representation instanceof FluidStack) {
+                return ((FluidStack) representation).getFluid();
+            } else if (representation instanceof ChemicalStack) {
+                return ((ChemicalStack<?>) representation).getType();
+            }
+            return representation;
+        }
+
+        @Nullable
+        private RECIPE_TYPE findFirst(Object key, Predicate<RECIPE_TYPE> matchCriteria) {
+            RECIPE_TYPE found = null;
+            int foundIndex = Integer.MAX_VALUE;
+            List<RECIPE_TYPE> candidates = byInput.get(key);
+            if (candidates != null) {
+                for (RECIPE_TYPE recipe : candidates) {
+                    if (matchCriteria.test(recipe)) {
+                        found = recipe;
+                        foundIndex = recipeIndices.getInt(recipe);
+                        break;
+                    }
+                }
+            }
+            //Both lists are in recipe list order, so only the unindexed recipes that come before the one we found can take precedence over it
+            for (RECIPE_TYPE recipe : unindexed) {
+                if (recipeIndices.getInt(recipe) > foundIndex) {
+                    break;
+                }
+                if (matchCriteria.test(recipe)) {
+                    return recipe;
+                }
+            }
+            return found;
+        }
+
+        private boolean containsInput(int input, Object key, Object cacheKey, Predicate<RECIPE_TYPE> matchCriteria) {
+            Object2BooleanLinkedOpenHashMap<Object> cache = validInputs[input];
+            //Validators get called from both the client and server threads, and the recipe types are shared between them
+            synchronized (cache) {
+                if (cache.containsKey(cacheKey)) {
+                    return cache.getAndMoveToLast(cacheKey);
+                }
+            }
+            boolean valid = findFirst(key, matchCriteria) != null;
+            if (cacheKey instanceof TaggedInput) {
+                //Copy the tag so that changes to the stack that was checked don't change our key
+                cacheKey = ((TaggedInput) cacheKey).copy();
+            }
+            synchronized (cache) {
+                if (cache.size() >= MAX_CACHED_INPUTS) {
+                    cache.removeFirstBoolean();
+                }
+                cache.put(cacheKey, valid);
+            }
+            return valid;
+        }
+    }
+
+    /**
+     * Cache key for an item or fluid that has NBT, as an ingredient may check the NBT as well.
+     */
+    private static class TaggedInput {
+
+        private final Object type;
+        private final CompoundNBT tag;
+        private final int hash;
+
+        private TaggedInput(Object type, CompoundNBT tag) {
+            this.type = type;
+            this.tag = tag;
+            this.hash = 31 * type.hashCode() + tag.hashCode();
+        }
+
+        private TaggedInput copy() {
+            return new TaggedInput(type, tag.copy());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj instanceof TaggedInput) {
+                TaggedInput other = (TaggedInput) obj;
+                return type == other.type && tag.equals(other.tag);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
\ No newline at end of file
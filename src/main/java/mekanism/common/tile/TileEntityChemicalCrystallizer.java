@@ -86,7 +86,7 @@ public class TileEntityChemicalCrystallizer extends TileEntityBasicMachine<GasTo
     @Override
     protected IChemicalTankHolder<Gas, GasStack> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack> builder = ChemicalTankHelper.forSideGas(this::getDirection);
-        builder.addTank(inputTank = BasicGasTank.input(MAX_GAS, gas -> containsRecipe(recipe -> recipe.getInput().testType(gas)), this), RelativeSide.LEFT);
+        builder.addTank(inputTank = BasicGasTank.input(MAX_GAS, gas -> containsRecipe(gas, recipe -> recipe.getInput().testType(gas)), this), RelativeSide.LEFT);
         return builder.build();
     }
 
@@ -139,7 +139,7 @@ public class TileEntityChemicalCrystallizer extends TileEntityBasicMachine<GasTo
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gasStack));
+        return findFirstRecipe(gasStack, recipe -> recipe.test(gasStack));
     }
 
     @Nullable
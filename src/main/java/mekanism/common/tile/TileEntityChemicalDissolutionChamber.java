@@ -69,7 +69,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
     @Override
     protected IChemicalTankHolder<Gas, GasStack> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack> builder = ChemicalTankHelper.forSideGas(this::getDirection);
-        builder.addTank(injectTank = BasicGasTank.input(MAX_GAS, gas -> containsRecipe(recipe -> recipe.getGasInput().testType(gas)), this), RelativeSide.LEFT);
+        builder.addTank(injectTank = BasicGasTank.input(MAX_GAS, gas -> containsRecipe(gas, recipe -> recipe.getGasInput().testType(gas)), this), RelativeSide.LEFT);
         builder.addTank(outputTank = BasicGasTank.ejectOutput(MAX_GAS, this), RelativeSide.RIGHT);
         return builder.build();
     }
@@ -87,7 +87,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
         builder.addSlot(gasInputSlot = GasInventorySlot.fillOrConvert(injectTank, this::getWorld, this, 6, 65), RelativeSide.BOTTOM);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 26, 36),
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getItemInput().testType(item)), this, 26, 36),
               RelativeSide.TOP, RelativeSide.LEFT);
         builder.addSlot(outputSlot = GasInventorySlot.drain(outputTank, this, 155, 25), RelativeSide.RIGHT);
         //TODO: Make this be accessible from some side for automation??
@@ -80,7 +80,7 @@ public class TileEntityChemicalInfuser extends TileEntityMekanism implements ITa
     }
 
     private boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getLeftInput().testType(gas) || recipe.getRightInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getLeftInput().testType(gas) || recipe.getRightInput().testType(gas));
     }
 
     private boolean isValidGas(@Nonnull Gas gas, IChemicalTank<Gas, GasStack> otherTank) {
@@ -89,7 +89,7 @@ public class TileEntityChemicalInfuser extends TileEntityMekanism implements ITa
             return true;
         }
         GasStack stack = otherTank.getStack();
-        return containsRecipe(recipe -> {
+        return containsRecipe(gas, recipe -> {
             GasStackIngredient leftInput = recipe.getLeftInput();
             GasStackIngredient rightInput = recipe.getRightInput();
             return rightInput.testType(gas) && leftInput.testType(stack) || leftInput.testType(gas) && rightInput.testType(stack);
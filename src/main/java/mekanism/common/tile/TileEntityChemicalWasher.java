@@ -77,7 +77,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements ITan
     @Override
     protected IChemicalTankHolder<Gas, GasStack> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack> builder = ChemicalTankHelper.forSideGas(this::getDirection);
-        builder.addTank(inputTank = BasicGasTank.input(MAX_GAS, gas -> containsRecipe(recipe -> recipe.getGasInput().testType(gas)), this), RelativeSide.LEFT);
+        builder.addTank(inputTank = BasicGasTank.input(MAX_GAS, gas -> containsRecipe(gas, recipe -> recipe.getGasInput().testType(gas)), this), RelativeSide.LEFT);
         builder.addTank(outputTank = BasicGasTank.output(MAX_GAS, this), RelativeSide.RIGHT);
         return builder.build();
     }
@@ -86,7 +86,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements ITan
     @Override
     protected IFluidTankHolder getInitialFluidTanks() {
         FluidTankHelper builder = FluidTankHelper.forSide(this::getDirection);
-        builder.addTank(fluidTank = BasicFluidTank.input(MAX_FLUID, fluid -> containsRecipe(recipe -> recipe.getFluidInput().testType(fluid)), this),
+        builder.addTank(fluidTank = BasicFluidTank.input(MAX_FLUID, fluid -> containsRecipe(fluid, recipe -> recipe.getFluidInput().testType(fluid)), this),
               RelativeSide.TOP);
         return builder.build();
     }
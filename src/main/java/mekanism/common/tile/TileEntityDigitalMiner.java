@@ -2,11 +2,16 @@ package mekanism.common.tile;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.BitSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,6 +45,7 @@ import mekanism.common.chunkloading.IChunkLoader;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.BaseFilter;
 import mekanism.common.content.filter.IFilter;
+import mekanism.common.content.miner.MinerBlockChangeTracker;
 import mekanism.common.content.miner.MinerFilter;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
@@ -71,7 +77,9 @@ import mekanism.common.util.StackUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
@@ -81,7 +89,6 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Vec3i;
-import net.minecraft.world.Region;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -95,6 +102,8 @@ import net.minecraftforge.items.ItemHandlerHelper;
 public class TileEntityDigitalMiner extends TileEntityMekanism implements ISustainedData, IChunkLoader, IAdvancedBoundingBlock, ITileFilterHolder<MinerFilter<?>>,
       ITileNetwork {
 
+    private static final int MAX_BLOCKS_PER_TICK = 64;
+
     public Map<ChunkPos, BitSet> oresToMine = new Object2ObjectOpenHashMap<>();
     public Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
     private HashList<MinerFilter<?>> filters = new HashList<>();
@@ -125,6 +134,24 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     private int delayTicks;
 
     private boolean initCalc = false;
+    /**
+     * Number of blocks to mine each time, more than one when speed upgrades bring the delay between blocks below a tick.
+     */
+    private int blocksPerTick = 1;
+    /**
+     * Indices of the blocks left to mine in the order we will mine them, so that we don't have to search the chunk maps for the next block every time.
+     */
+    private final IntArrayFIFOQueue mineQueue = new IntArrayFIFOQueue();
+    private boolean mineQueueDirty = true;
+    /**
+     * True if the targets were loaded from NBT, in which case we don't need to search again.
+     */
+    private boolean loadedTargets;
+    private boolean trackingChanges;
+    /**
+     * Positions in our area that changed since we finished searching, and need to be checked again to see if they should be mined.
+     */
+    private final LongSet changedTargets = new LongOpenHashSet();
 
     private int numPowering;
 
@@ -190,7 +217,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         super.onUpdateServer();
         closeInvalidScreens();
         if (!initCalc) {
-            if (searcher.state == State.FINISHED) {
+            if (searcher.state == State.FINISHED && !loadedTargets) {
                 boolean prevRunning = running;
                 reset();
                 start();
@@ -199,75 +226,38 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             initCalc = true;
         }
 
+        if (searcher.state == State.FINISHED) {
+            if (!trackingChanges) {
+                MinerBlockChangeTracker.track(this);
+                trackingChanges = true;
+            }
+            if (!changedTargets.isEmpty()) {
+                updateChangedTargets();
+            }
+        }
+
         energySlot.fillContainerOrConvert();
+        if (searcher.state == State.SEARCHING) {
+            //Search the areas of miners that players are looking at first
+            searcher.setPriority(playersUsing.size());
+        }
 
         if (MekanismUtils.canFunction(this) && running && searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
             FloatingLong energyPerTick = energyContainer.getEnergyPerTick();
-            if (energyContainer.extract(energyPerTick, Action.SIMULATE, AutomationType.INTERNAL).equals(energyPerTick)) {
+            //Make sure we have enough energy for all the blocks we may mine this tick
+            FloatingLong batchCost = blocksPerTick > 1 ? energyPerTick.multiply(blocksPerTick) : energyPerTick;
+            if (energyContainer.extract(batchCost, Action.SIMULATE, AutomationType.INTERNAL).equals(batchCost)) {
                 setActive(true);
                 if (delay > 0) {
                     delay--;
                 }
-                energyContainer.extract(energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
+                int mined = 0;
                 if (delay == 0) {
-                    boolean did = false;
-                    for (Iterator<ChunkPos> it = oresToMine.keySet().iterator(); it.hasNext(); ) {
-                        ChunkPos chunk = it.next();
-                        BitSet set = oresToMine.get(chunk);
-                        int next = 0;
-                        while (!did) {
-                            int index = set.nextSetBit(next);
-                            BlockPos pos = getPosFromIndex(index);
-                            if (index == -1) {
-                                it.remove();
-                                break;
-                            }
-                            if (!world.isBlockPresent(pos) || world.isAirBlock(pos)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
-                                continue;
-                            }
-                            boolean hasFilter = false;
-                            BlockState state = world.getBlockState(pos);
-                            for (MinerFilter<?> filter : filters) {
-                                if (filter.canFilter(state)) {
-                                    hasFilter = true;
-                                    break;
-                                }
-                            }
-
-                            if (inverse == hasFilter || !canMine(pos)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
-                                continue;
-                            }
-
-                            List<ItemStack> drops = MinerUtils.getDrops((ServerWorld) world, pos, getSilkTouch(), this.pos);
-                            if (canInsert(drops) && setReplace(pos, index)) {
-                                did = true;
-                                add(drops);
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                }
-                                world.playEvent(WorldEvents.BREAK_BLOCK_EFFECTS, pos, Block.getStateId(state));
-                                missingStack = ItemStack.EMPTY;
-                            }
-                            break;
-                        }
-                    }
+                    mined = mineBlocks(blocksPerTick);
                     delay = getDelay();
-                    //Update the cached to mine value now that we have actually performed a mine
-                    updateCachedToMine();
                 }
+                //Only charge for the blocks we actually mined, but always charge the base usage
+                energyContainer.extract(mined > 1 ? energyPerTick.multiply(mined) : energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
             } else {
                 setActive(false);
             }
@@ -275,11 +265,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             setActive(false);
         }
 
-        TransitRequest ejectMap = getEjectItemMap();
-        if (doEject && delayTicks == 0 && !ejectMap.isEmpty()) {
+        if (doEject && delayTicks == 0) {
+            TransitRequest ejectMap = getEjectItemMap();
             TileEntity ejectInv = getEjectInv();
             TileEntity ejectTile = getEjectTile();
-            if (ejectInv != null && ejectTile != null) {
+            if (!ejectMap.isEmpty() && ejectInv != null && ejectTile != null) {
                 TransitResponse response;
                 Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(ejectInv, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, getOppositeDirection()));
                 if (capability.isPresent()) {
@@ -290,13 +280,86 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
                 if (!response.isEmpty()) {
                     response.getInvStack(ejectTile, getOppositeDirection()).use();
                 }
-                delayTicks = 10;
+                //When mining multiple blocks a tick eject every tick so that we don't fill up
+                delayTicks = blocksPerTick > 1 ? 0 : 10;
             }
         } else if (delayTicks > 0) {
             delayTicks--;
         }
     }
 
+    /**
+     * Mines up to the given number of blocks from the mine queue.
+     *
+     * @return The number of blocks that actually got mined.
+     */
+    private int mineBlocks(int count) {
+        if (mineQueueDirty || mineQueue.isEmpty()) {
+            rebuildMineQueue();
+        }
+        int mined = 0;
+        int deferred = 0;
+        while (mined < count && !mineQueue.isEmpty() && deferred < mineQueue.size()) {
+            int index = mineQueue.firstInt();
+            BlockPos pos = getPosFromIndex(index);
+            ChunkPos chunk = new ChunkPos(pos);
+            BitSet set = oresToMine.get(chunk);
+            if (set == null || !set.get(index)) {
+                //No longer something we want to mine, for example because the block changed since we queued it
+                mineQueue.dequeueInt();
+                continue;
+            }
+            if (!world.isBlockPresent(pos) || world.isAirBlock(pos)) {
+                mineQueue.dequeueInt();
+                clearTarget(chunk, set, index);
+                continue;
+            }
+            BlockState state = world.getBlockState(pos);
+            if (inverse == (ThreadMinerSearch.getMatchingFilter(filters, state) != null) || !canMine(pos)) {
+                mineQueue.dequeueInt();
+                clearTarget(chunk, set, index);
+                continue;
+            }
+            List<ItemStack> drops = MinerUtils.getDrops((ServerWorld) world, pos, getSilkTouch(), this.pos);
+            if (!canInsert(drops)) {
+                //We don't have room for the drops, try again later
+                break;
+            }
+            mineQueue.dequeueInt();
+            if (setReplace(pos, index)) {
+                add(drops);
+                clearTarget(chunk, set, index);
+                world.playEvent(WorldEvents.BREAK_BLOCK_EFFECTS, pos, Block.getStateId(state));
+                missingStack = ItemStack.EMPTY;
+                mined++;
+            } else {
+                //Move on to the other blocks and come back to this one once we may be able to replace it
+                mineQueue.enqueue(index);
+                deferred++;
+            }
+        }
+        return mined;
+    }
+
+    private void rebuildMineQueue() {
+        mineQueue.clear();
+        for (BitSet set : oresToMine.values()) {
+            for (int index = set.nextSetBit(0); index >= 0; index = set.nextSetBit(index + 1)) {
+                mineQueue.enqueue(index);
+            }
+        }
+        mineQueueDirty = false;
+    }
+
+    private void clearTarget(ChunkPos chunk, BitSet set, int index) {
+        set.clear(index);
+        replaceMap.remove(index);
+        cachedToMine--;
+        if (set.isEmpty()) {
+            oresToMine.remove(chunk);
+        }
+    }
+
     public int getDelay() {
         return delayLength;
     }
@@ -334,6 +397,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
                 // If the radius changed and we're on the server, go ahead and refresh the chunk set
                 getChunkLoader().refreshChunkTickets();
             }
+            updateTrackedArea();
         }
     }
 
@@ -342,6 +406,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         minY = newMinY;
         if (changed) {
             energyContainer.updateMinerEnergyPerTick();
+            updateTrackedArea();
         }
     }
 
@@ -350,6 +415,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         maxY = newMaxY;
         if (changed) {
             energyContainer.updateMinerEnergyPerTick();
+            updateTrackedArea();
         }
     }
 
@@ -520,9 +586,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             return;
         }
         if (searcher.state == State.IDLE) {
-            BlockPos startingPos = getStartingPos();
-            searcher.setChunkCache(new Region(getWorld(), startingPos, startingPos.add(getDiameter(), getMaxY() - getMinY() + 1, getDiameter())));
-            searcher.start();
+            searcher.start(getWorld());
         }
         running = true;
         markDirty();
@@ -530,7 +594,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     private void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
             return;
         } else if (searcher.state == State.FINISHED) {
@@ -540,11 +603,15 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     private void reset() {
+        searcher.cancel();
+        stopTrackingChanges();
         searcher = new ThreadMinerSearch(this);
         running = false;
         cachedToMine = 0;
         oresToMine.clear();
         replaceMap.clear();
+        mineQueue.clear();
+        mineQueueDirty = true;
         missingStack = ItemStack.EMPTY;
         setActive(false);
         markDirty();
@@ -559,8 +626,94 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         return false;
     }
 
-    private void updateCachedToMine() {
-        cachedToMine = oresToMine.values().stream().mapToInt(BitSet::cardinality).sum();
+    /**
+     * Like {@link #isReplaceStack(ItemStack)} but without needing a stack, as item equality only compares the item.
+     */
+    public boolean isReplaceItem(Item item) {
+        if (item == Items.AIR) {
+            return false;
+        }
+        for (MinerFilter<?> filter : filters) {
+            if (!filter.replaceStack.isEmpty() && filter.replaceStack.getItem() == item) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void stopTrackingChanges() {
+        if (trackingChanges) {
+            MinerBlockChangeTracker.untrack(this);
+            trackingChanges = false;
+        }
+        changedTargets.clear();
+        loadedTargets = false;
+    }
+
+    @Override
+    public void remove() {
+        super.remove();
+        stopTrackingChanges();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        stopTrackingChanges();
+    }
+
+    /**
+     * Called when a block in our area changed, so that we can check if it is something we should now mine or no longer mine.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        changedTargets.add(pos.toLong());
+    }
+
+    /**
+     * Updates the area we are tracking changes in after our radius or y range changed.
+     */
+    private void updateTrackedArea() {
+        if (trackingChanges) {
+            MinerBlockChangeTracker.track(this);
+        }
+    }
+
+    private void updateChangedTargets() {
+        for (LongIterator iterator = changedTargets.iterator(); iterator.hasNext(); ) {
+            BlockPos pos = BlockPos.fromLong(iterator.nextLong());
+            if (!world.isBlockPresent(pos)) {
+                continue;
+            }
+            BlockState state = world.getBlockState(pos);
+            MinerFilter<?> filterFound = null;
+            boolean shouldMine = false;
+            if (!pos.equals(getPos()) && ThreadMinerSearch.canMine(this, world, pos, state)) {
+                filterFound = ThreadMinerSearch.getMatchingFilter(filters, state);
+                shouldMine = inverse == (filterFound == null);
+            }
+            int index = getIndexFromPos(pos);
+            ChunkPos chunk = new ChunkPos(pos);
+            BitSet set = oresToMine.get(chunk);
+            if (shouldMine) {
+                if (set == null) {
+                    oresToMine.put(chunk, set = new BitSet());
+                }
+                if (!set.get(index)) {
+                    set.set(index);
+                    cachedToMine++;
+                    mineQueueDirty = true;
+                }
+                replaceMap.put(index, filterFound);
+            } else if (set != null && set.get(index)) {
+                set.clear(index);
+                replaceMap.remove(index);
+                cachedToMine--;
+                if (set.isEmpty()) {
+                    oresToMine.remove(chunk);
+                }
+            }
+        }
+        changedTargets.clear();
     }
 
     @Override
@@ -571,6 +724,29 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         numPowering = nbtTags.getInt(NBTConstants.NUM_POWERING);
         NBTUtils.setEnumIfPresent(nbtTags, NBTConstants.STATE, State::byIndexStatic, state -> searcher.state = state);
         setConfigurationData(nbtTags);
+        if (searcher.state == State.FINISHED && nbtTags.contains(NBTConstants.TO_MINE, NBT.TAG_LONG_ARRAY)) {
+            readTargets(nbtTags);
+        }
+    }
+
+    private void readTargets(CompoundNBT nbtTags) {
+        oresToMine.clear();
+        replaceMap.clear();
+        BitSet toMine = BitSet.valueOf(nbtTags.getLongArray(NBTConstants.TO_MINE));
+        for (int index = toMine.nextSetBit(0); index >= 0; index = toMine.nextSetBit(index + 1)) {
+            oresToMine.computeIfAbsent(new ChunkPos(getPosFromIndex(index)), chunk -> new BitSet()).set(index);
+        }
+        //Only the targets that get replaced by a filter's replace stack are saved, as for all other targets having no filter behaves the same
+        int[] replaceTargets = nbtTags.getIntArray(NBTConstants.REPLACE_TARGETS);
+        for (int i = 0; i + 1 < replaceTargets.length; i += 2) {
+            int filterIndex = replaceTargets[i + 1];
+            if (filterIndex < filters.size()) {
+                replaceMap.put(replaceTargets[i], filters.get(filterIndex));
+            }
+        }
+        cachedToMine = toMine.cardinality();
+        mineQueueDirty = true;
+        loadedTargets = true;
     }
 
     @Nonnull
@@ -584,9 +760,34 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         nbtTags.putInt(NBTConstants.DELAY, delay);
         nbtTags.putInt(NBTConstants.NUM_POWERING, numPowering);
         nbtTags.putInt(NBTConstants.STATE, searcher.state.ordinal());
+        if (searcher.state == State.FINISHED) {
+            writeTargets(nbtTags);
+        }
         return getConfigurationData(nbtTags);
     }
 
+    private void writeTargets(CompoundNBT nbtTags) {
+        BitSet toMine = new BitSet();
+        for (BitSet set : oresToMine.values()) {
+            toMine.or(set);
+        }
+        nbtTags.putLongArray(NBTConstants.TO_MINE, toMine.toLongArray());
+        IntList replaceTargets = new IntArrayList();
+        for (Int2ObjectMap.Entry<MinerFilter<?>> entry : replaceMap.int2ObjectEntrySet()) {
+            MinerFilter<?> filter = entry.getValue();
+            if (filter != null && !filter.replaceStack.isEmpty()) {
+                int filterIndex = filters.indexOf(filter);
+                if (filterIndex != -1) {
+                    replaceTargets.add(entry.getIntKey());
+                    replaceTargets.add(filterIndex);
+                }
+            }
+        }
+        if (!replaceTargets.isEmpty()) {
+            nbtTags.putIntArray(NBTConstants.REPLACE_TARGETS, replaceTargets.toIntArray());
+        }
+    }
+
     @Override
     public void handlePacketData(PacketBuffer dataStream) {
         if (!isRemote()) {
@@ -660,6 +861,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         return new BlockPos(getPos().getX() - radius, getMinY(), getPos().getZ() - radius);
     }
 
+    private int getIndexFromPos(BlockPos pos) {
+        int diameter = getDiameter();
+        BlockPos start = getStartingPos();
+        return (pos.getX() - start.getX()) + (pos.getZ() - start.getZ()) * diameter + (pos.getY() - start.getY()) * diameter * diameter;
+    }
+
     private BlockPos getPosFromIndex(int index) {
         int diameter = getDiameter();
         BlockPos start = getStartingPos();
@@ -842,7 +1049,15 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     public void recalculateUpgrades(Upgrade upgrade) {
         super.recalculateUpgrades(upgrade);
         if (upgrade == Upgrade.SPEED) {
-            delayLength = MekanismUtils.getTicks(this, MekanismConfig.general.digitalMinerTicksPerMine.get());
+            int ticksPerMine = MekanismConfig.general.digitalMinerTicksPerMine.get();
+            delayLength = MekanismUtils.getTicks(this, ticksPerMine);
+            if (delayLength == 0) {
+                //Mine as many blocks each tick as would fit in a tick if we could mine partway through one
+                double ticks = ticksPerMine * Math.pow(MekanismConfig.general.maxUpgradeMultiplier.get(), -MekanismUtils.fractionUpgrades(this, Upgrade.SPEED));
+                blocksPerTick = ticks <= 0 ? MAX_BLOCKS_PER_TICK : Math.max(1, Math.min(MAX_BLOCKS_PER_TICK, (int) (1 / ticks)));
+            } else {
+                blocksPerTick = 1;
+            }
         }
     }
 
@@ -954,7 +1169,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         container.track(SyncableBoolean.create(() -> running, value -> running = value));
         container.track(SyncableBoolean.create(this::getSilkTouch, this::setSilkTouch));
         container.track(SyncableEnum.create(State::byIndexStatic, State.IDLE, () -> searcher.state, value -> searcher.state = value));
-        container.track(SyncableInt.create(() -> !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine, value -> cachedToMine = value));
+        container.track(SyncableInt.create(() -> !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine, value -> cachedToMine = value));
         container.track(SyncableItemStack.create(() -> missingStack, value -> missingStack = value));
     }
 
@@ -105,7 +105,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
     @Override
     protected IFluidTankHolder getInitialFluidTanks() {
         FluidTankHelper builder = FluidTankHelper.forSide(this::getDirection);
-        builder.addTank(fluidTank = BasicFluidTank.input(24_000, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid)), this),
+        builder.addTank(fluidTank = BasicFluidTank.input(24_000, fluid -> containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid)), this),
               RelativeSide.FRONT, RelativeSide.BACK);
         return builder.build();
     }
@@ -202,7 +202,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
@@ -62,6 +62,11 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
     @Nullable
     public String cachedID = null;
 
+    /**
+     * Whether this multiblock segment is registered with the cache of its structure in the manager, and is sharing it with the other segments.
+     */
+    private boolean cacheRegistered;
+
     public TileEntityMultiblock(IBlockProvider blockProvider) {
         super(blockProvider);
     }
@@ -86,6 +91,7 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
                 }
             }
             isRendering = false;
+            cacheRegistered = false;
             if (cachedID != null) {
                 getManager().updateCache(this);
             }
@@ -103,9 +109,21 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
             }
             structure.didTick = false;
             if (structure.inventoryID != null) {
-                cachedData.sync(structure);
-                cachedID = structure.inventoryID;
-                getManager().updateCache(this);
+                if (!cacheRegistered || !structure.inventoryID.equals(cachedID)) {
+                    if (cachedID != null && !structure.inventoryID.equals(cachedID)) {
+                        //We are now part of a different structure, so stop being a location of the old one's cache
+                        getManager().removeLocation(cachedID, Coord4D.get(this));
+                    }
+                    //Register once and share the cache of the structure, so that it only has to be synced by one of the segments each tick
+                    cachedID = structure.inventoryID;
+                    cachedData = getManager().updateCache(this);
+                    cacheRegistered = true;
+                }
+                long time = world.getGameTime();
+                if (structure.lastCacheSync != time) {
+                    structure.lastCacheSync = time;
+                    cachedData.sync(structure);
+                }
             }
         }
     }
@@ -129,6 +147,14 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
         sendUpdatePacket();
     }
 
+    @Override
+    public void remove() {
+        super.remove();
+        if (!isRemote() && cachedID != null) {
+            getManager().removeLocation(cachedID, Coord4D.get(this));
+        }
+    }
+
     @Override
     public void doUpdate() {
         if (!isRemote() && (structure == null || !structure.didTick)) {
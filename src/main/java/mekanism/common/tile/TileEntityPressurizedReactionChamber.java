@@ -120,7 +120,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
     @Override
     protected IChemicalTankHolder<Gas, GasStack> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack> builder = ChemicalTankHelper.forSideGasWithConfig(this::getDirection, this::getConfig);
-        builder.addTank(inputGasTank = BasicGasTank.input(MAX_GAS, gas -> containsRecipe(recipe -> recipe.getInputGas().testType(gas)), this));
+        builder.addTank(inputGasTank = BasicGasTank.input(MAX_GAS, gas -> containsRecipe(gas, recipe -> recipe.getInputGas().testType(gas)), this));
         builder.addTank(outputGasTank = BasicGasTank.output(MAX_GAS, this));
         return builder.build();
     }
@@ -129,7 +129,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
     @Override
     protected IFluidTankHolder getInitialFluidTanks() {
         FluidTankHelper builder = FluidTankHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addTank(inputFluidTank = BasicFluidTank.input(10_000, fluid -> containsRecipe(recipe -> recipe.getInputFluid().testType(fluid)), this));
+        builder.addTank(inputFluidTank = BasicFluidTank.input(10_000, fluid -> containsRecipe(fluid, recipe -> recipe.getInputFluid().testType(fluid)), this));
         return builder.build();
     }
 
@@ -145,7 +145,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInputSolid().testType(item)), this, 54, 35));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInputSolid().testType(item)), this, 54, 35));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 141, 19));
         return builder.build();
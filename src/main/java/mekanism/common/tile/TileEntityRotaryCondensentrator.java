@@ -100,7 +100,7 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
     }
 
     private boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.hasGasToFluid() && recipe.getGasInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.hasGasToFluid() && recipe.getGasInput().testType(gas));
     }
 
     @Nonnull
@@ -113,7 +113,7 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
     }
 
     private boolean isValidFluid(@Nonnull FluidStack fluidStack) {
-        return containsRecipe(recipe -> recipe.hasFluidToGas() && recipe.getFluidInput().testType(fluidStack));
+        return containsRecipe(fluidStack, recipe -> recipe.hasFluidToGas() && recipe.getFluidInput().testType(fluidStack));
     }
 
     @Nonnull
@@ -231,14 +231,14 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
             if (fluid.isEmpty()) {
                 return null;
             }
-            return findFirstRecipe(recipe -> recipe.test(fluid));
+            return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
         }
         //Gas to Fluid
         GasStack gas = gasInputHandler.getInput();
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gas));
+        return findFirstRecipe(gas, recipe -> recipe.test(gas));
     }
 
     public MachineEnergyContainer<TileEntityRotaryCondensentrator> getEnergyContainer() {
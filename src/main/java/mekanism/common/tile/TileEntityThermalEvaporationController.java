@@ -107,7 +107,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
     @Override
     protected IFluidTankHolder getInitialFluidTanks() {
         FluidTankHelper builder = FluidTankHelper.forSide(this::getDirection);
-        builder.addTank(inputTank = VariableCapacityFluidTank.input(this::getMaxFluid, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid)), this));
+        builder.addTank(inputTank = VariableCapacityFluidTank.input(this::getMaxFluid, fluid -> containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid)), this));
         builder.addTank(outputTank = BasicFluidTank.output(MAX_OUTPUT, this));
         return builder.build();
     }
@@ -210,7 +210,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
@@ -614,7 +614,7 @@ public abstract class TileEntityMekanism extends TileEntityUpdateable implements
             container.track(SyncableFloatingLong.create(this::getInputRate, this::setInputRate));
             List<IEnergyContainer> energyContainers = getEnergyContainers(null);
             for (IEnergyContainer energyContainer : energyContainers) {
-                container.track(SyncableFloatingLong.create(energyContainer::getEnergy, energyContainer::setEnergy));
+                container.track(SyncableFloatingLong.create(energyContainer));
                 if (energyContainer instanceof MachineEnergyContainer<?>) {
                     MachineEnergyContainer<?> machineEnergy = (MachineEnergyContainer<?>) energyContainer;
                     if (supportsUpgrades() || machineEnergy.adjustableRates()) {
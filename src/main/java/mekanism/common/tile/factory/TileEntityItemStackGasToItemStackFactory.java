@@ -67,7 +67,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
     protected IChemicalTankHolder<Gas, GasStack> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack> builder = ChemicalTankHelper.forSideGasWithConfig(this::getDirection, this::getConfig);
         builder.addTank(gasTank = BasicGasTank.input(TileEntityAdvancedElectricMachine.MAX_GAS * tier.processes,
-              gas -> containsRecipe(recipe -> recipe.getGasInput().testType(gas)), this));
+              gas -> containsRecipeInput(1, gas), this));
         return builder.build();
     }
 
@@ -89,7 +89,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+        return containsRecipeInput(0, stack);
     }
 
     @Override
@@ -58,7 +58,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipeInput(0, stack);
     }
 
     //TODO: Improve the logic for this so that it more accurately handles the secondary output slot type stacking
@@ -123,7 +123,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Override
@@ -3,11 +3,17 @@ package mekanism.common.tile.interfaces;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.chemical.gas.Gas;
+import mekanism.api.chemical.infuse.InfuseType;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.ICachedRecipeHolder;
 import mekanism.common.recipe.MekanismRecipeType;
+import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 
 public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends ICachedRecipeHolder<RECIPE> {
 
@@ -33,4 +39,53 @@ public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends
     default RECIPE findFirstRecipe(@Nonnull Predicate<RECIPE> matchCriteria) {
         return getRecipeType().findFirst(getTileWorld(), matchCriteria);
     }
+
+    //Note: The below variants only check the input of the recipe at the given index, and remember the result until the recipes are reloaded
+    default boolean containsRecipeInput(int input, @Nonnull ItemStack stack) {
+        return getRecipeType().containsInput(getTileWorld(), input, stack);
+    }
+
+    default boolean containsRecipeInput(int input, @Nonnull FluidStack stack) {
+        return getRecipeType().containsInput(getTileWorld(), input, stack);
+    }
+
+    default boolean containsRecipeInput(int input, @Nonnull Gas gas) {
+        return getRecipeType().containsInput(getTileWorld(), input, gas);
+    }
+
+    default boolean containsRecipeInput(int input, @Nonnull InfuseType infuseType) {
+        return getRecipeType().containsInput(getTileWorld(), input, infuseType);
+    }
+
+    //Note: The below variants use the recipe type's input index to only check the recipes that may accept the given input
+    default boolean containsRecipe(@Nonnull ItemStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull FluidStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull ChemicalStack<?> input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull Chemical<?> input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull ItemStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull FluidStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull ChemicalStack<?> input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import javax.annotation.Nonnull;
 import mekanism.api.NBTConstants;
-import mekanism.api.TileNetworkList;
 import mekanism.api.text.EnumColor;
 import mekanism.api.tier.AlloyTier;
 import mekanism.client.model.data.TransmitterModelData;
@@ -81,20 +80,21 @@ public class TileEntityDiversionTransporter extends TileEntityLogisticalTranspor
     }
 
     @Override
-    public TileNetworkList makeSyncPacket(int stackId, TransporterStack stack) {
-        return addModes(super.makeSyncPacket(stackId, stack));
+    public void writeSyncPacket(PacketBuffer buffer, int stackId, TransporterStack stack) {
+        super.writeSyncPacket(buffer, stackId, stack);
+        writeModes(buffer);
     }
 
     @Override
-    public TileNetworkList makeBatchPacket(Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
-        return addModes(super.makeBatchPacket(updates, deletes));
+    public void writeBatchPacket(PacketBuffer buffer, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        super.writeBatchPacket(buffer, updates, deletes);
+        writeModes(buffer);
     }
 
-    private TileNetworkList addModes(TileNetworkList data) {
+    private void writeModes(PacketBuffer buffer) {
         for (int i = 0; i < EnumUtils.DIRECTIONS.length; i++) {
-            data.add(modes[i]);
+            buffer.writeInt(modes[i]);
         }
-        return data;
     }
 
     @Override
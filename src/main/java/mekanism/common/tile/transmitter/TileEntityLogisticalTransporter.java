@@ -1,13 +1,13 @@
 package mekanism.common.tile.transmitter;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.Collection;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
-import mekanism.api.TileNetworkList;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.api.text.EnumColor;
 import mekanism.api.tier.AlloyTier;
@@ -156,12 +156,6 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         }
     }
 
-    @Override
-    public void onWorldJoin() {
-        super.onWorldJoin();
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
-    }
-
     @Override
     public InventoryNetwork createNewNetwork() {
         return new InventoryNetwork();
@@ -206,25 +200,23 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         }
     }
 
-    public TileNetworkList makeSyncPacket(int stackId, TransporterStack stack) {
-        TileNetworkList data = new TileNetworkList();
-        data.add(SYNC_PACKET);
-        data.add(stackId);
-        stack.write(getTransmitter(), data);
-        return data;
+    public void writeSyncPacket(PacketBuffer buffer, int stackId, TransporterStack stack) {
+        buffer.writeByte(SYNC_PACKET);
+        buffer.writeInt(stackId);
+        stack.write(getTransmitter(), buffer);
     }
 
-    public TileNetworkList makeBatchPacket(Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
-        TileNetworkList data = new TileNetworkList();
-        data.add(BATCH_PACKET);
-        data.add(updates.size());
+    public void writeBatchPacket(PacketBuffer buffer, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        buffer.writeByte(BATCH_PACKET);
+        buffer.writeInt(updates.size());
         for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
-            data.add(entry.getIntKey());
-            entry.getValue().write(getTransmitter(), data);
+            buffer.writeInt(entry.getIntKey());
+            entry.getValue().write(getTransmitter(), buffer);
+        }
+        buffer.writeInt(deletes.size());
+        for (IntIterator iterator = deletes.iterator(); iterator.hasNext(); ) {
+            buffer.writeInt(iterator.nextInt());
         }
-        data.add(deletes.size());
-        data.addAll(deletes);
-        return data;
     }
 
     private void readStack(PacketBuffer dataStream) {
@@ -253,7 +245,11 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     @Override
     protected ActionResultType onConfigure(PlayerEntity player, int part, Direction side) {
         TransporterUtils.incrementColor(getTransmitter());
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        //Changing the color may open up shorter paths, not just block the ones passing through
+        InventoryNetwork network = getTransmitter().getTransmitterNetwork();
+        if (network != null) {
+            network.invalidateCachedPaths();
+        }
         sendUpdatePacket();
         EnumColor color = getTransmitter().getColor();
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM,
@@ -19,6 +19,7 @@ import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.api.transmitters.ITransmitter;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.client.model.data.TransmitterModelData;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.ILangEntry;
 import mekanism.common.block.states.TransmitterType;
@@ -278,6 +279,7 @@ public abstract class TileEntitySidedPipe extends TileEntityUpdateable implement
             int index = i;
             NBTUtils.setEnumIfPresent(tag, NBTConstants.SIDE + index, ConnectionType::byIndexStatic, type -> connectionTypes[index] = type);
         }
+        Mekanism.proxy.onTransmitterContentsChanged(getPos());
     }
 
     @Override
@@ -435,6 +437,9 @@ public abstract class TileEntitySidedPipe extends TileEntityUpdateable implement
     public void remove() {
         onWorldSeparate();
         super.remove();
+        if (isRemote()) {
+            Mekanism.proxy.onTransmitterContentsChanged(getPos());
+        }
     }
 
     @Override
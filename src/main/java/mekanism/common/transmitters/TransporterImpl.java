@@ -11,7 +11,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.NBTConstants;
-import mekanism.api.TileNetworkList;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ILogisticalTransporter;
@@ -65,11 +64,11 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
         transit.put(id, s);
     }
 
-    public void writeToPacket(TileNetworkList data) {
-        data.add(transit.size());
+    public void writeToPacket(PacketBuffer buffer) {
+        buffer.writeInt(transit.size());
         for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
-            data.add(entry.getIntKey());
-            entry.getValue().write(this, data);
+            buffer.writeInt(entry.getIntKey());
+            entry.getValue().write(this, buffer);
         }
     }
 
@@ -221,17 +220,19 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
             }
 
             if (!deletes.isEmpty() || !needsSync.isEmpty()) {
-                PacketTileEntity msg = new PacketTileEntity(coord, getTileEntity().makeBatchPacket(needsSync, deletes));
+                TileEntityLogisticalTransporter tile = getTileEntity();
+                // Notify clients, this has to happen before clearing the pending syncs as the packet's data gets written when it is sent
+                //TODO: Check
+                Mekanism.packetHandler.sendToAllTracking(new PacketTileEntity(coord, buffer -> tile.writeBatchPacket(buffer, needsSync, deletes)), world(), coord.getPos());
+
                 // Now remove any entries from transit that have been deleted
                 deletes.forEach((IntConsumer) (id -> transit.remove(id)));
 
                 // Clear the pending sync packets
                 needsSync.clear();
 
-                // Finally, notify clients and mark chunk for save
-                //TODO: Check
-                Mekanism.packetHandler.sendToAllTracking(msg, world(), coord.getPos());
-                MekanismUtils.saveChunk(getTileEntity());
+                // Finally, mark chunk for save
+                MekanismUtils.saveChunk(tile);
             }
         }
     }
@@ -287,7 +288,7 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
                 int stackId = nextId++;
                 transit.put(stackId, stack);
                 TileEntityLogisticalTransporter tile = getTileEntity();
-                Mekanism.packetHandler.sendToAllTracking(new PacketTileEntity(tile, tile.makeSyncPacket(stackId, stack)), tile);
+                Mekanism.packetHandler.sendToAllTracking(new PacketTileEntity(tile, buffer -> tile.writeSyncPacket(buffer, stackId, stack)), tile);
                 MekanismUtils.saveChunk(tile);
             }
             return response;
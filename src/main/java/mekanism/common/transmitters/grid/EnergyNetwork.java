@@ -1,17 +1,13 @@
 package mekanism.common.transmitters.grid;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
-import mekanism.api.Coord4D;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
@@ -26,19 +22,23 @@ import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
 import mekanism.common.integration.EnergyCompatUtils;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.energy.IEnergyStorage;
 import net.minecraftforge.eventbus.api.Event;
 
 public class EnergyNetwork extends DynamicNetwork<IStrictEnergyHandler, EnergyNetwork, FloatingLong> implements IMekanismStrictEnergyHandler {
 
     private final List<IEnergyContainer> energyContainers;
     public final VariableCapacityEnergyContainer energyContainer;
+    private final EnergyAcceptorTarget emitTarget = new EnergyAcceptorTarget();
+    private final EnergyTransmitterSaveTarget saveTarget = new EnergyTransmitterSaveTarget();
 
     public float energyScale;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
@@ -113,9 +113,10 @@ public class EnergyNetwork extends DynamicNetwork<IStrictEnergyHandler, EnergyNe
 
     @Override
     public synchronized void updateCapacity() {
-        FloatingLong sum = FloatingLong.ZERO;
+        //Accumulate in place into a single mutable value
+        FloatingLong sum = FloatingLong.create(0);
         for (IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong> transmitter : transmitters) {
-            sum = sum.plusEqual(transmitter.getCapacityAsFloatingLong());
+            sum.plusEqual(transmitter.getCapacityAsFloatingLong());
         }
         if (!floatingLongCapacity.equals(sum)) {
             floatingLongCapacity = sum;
@@ -132,55 +133,50 @@ public class EnergyNetwork extends DynamicNetwork<IStrictEnergyHandler, EnergyNe
     @Override
     protected void updateSaveShares() {
         super.updateSaveShares();
-        int size = transmittersSize();
-        if (size > 0) {
-            //Just pretend we are always accessing it from the north
-            Direction side = Direction.NORTH;
-            Set<EnergyTransmitterSaveTarget> saveTargets = new ObjectOpenHashSet<>(size);
+        if (!isEmpty()) {
             for (IGridTransmitter<IStrictEnergyHandler, EnergyNetwork, FloatingLong> transmitter : transmitters) {
-                EnergyTransmitterSaveTarget saveTarget = new EnergyTransmitterSaveTarget();
-                saveTarget.addHandler(side, transmitter);
-                saveTargets.add(saveTarget);
-            }
-            EmitUtils.sendToAcceptors(saveTargets, size, energyContainer.getEnergy().copy());
-            for (EnergyTransmitterSaveTarget saveTarget : saveTargets) {
-                saveTarget.saveShare(side);
+                saveTarget.addHandler(transmitter);
             }
+            EmitUtils.sendToAcceptors(saveTarget, energyContainer.getEnergy());
         }
     }
 
+    @Override
+    protected LazyOptional<IStrictEnergyHandler> getAcceptorHandler(TileEntity tile, Direction side) {
+        return EnergyCompatUtils.getLazyStrictEnergyHandler(tile, side);
+    }
+
+    @Override
+    protected LazyOptional<?> getWrappableAcceptorHandler(TileEntity tile, Direction side) {
+        return EnergyCompatUtils.getLazyForgeEnergyHandler(tile, side);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected LazyOptional<IStrictEnergyHandler> wrapAcceptorHandler(LazyOptional<?> wrapped) {
+        //We only ever get asked to wrap forge energy handlers, see getWrappableAcceptorHandler
+        return EnergyCompatUtils.wrapForgeEnergyHandler((LazyOptional<IEnergyStorage>) wrapped);
+    }
+
     private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
-        int totalHandlers = 0;
-        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
-            if (tile == null) {
-                continue;
-            }
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-            for (Direction side : sides) {
-                IStrictEnergyHandler handler = EnergyCompatUtils.getStrictEnergyHandler(tile, side);
-                if (handler != null && handler.insertEnergy(FloatingLong.ONE, Action.SIMULATE).smallerThan(FloatingLong.ONE)) {
-                    target.addHandler(side, handler);
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(acceptorDirections)) {
+            long pos = entry.getLongKey();
+            byte sides = entry.getByteValue();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (hasSide(sides, side)) {
+                    IStrictEnergyHandler handler = getCachedAcceptor(pos, side);
+                    if (handler != null && handler.insertEnergy(FloatingLong.ONE, Action.SIMULATE).smallerThan(FloatingLong.ONE)) {
+                        emitTarget.addHandler(handler);
+                    }
                 }
             }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                targets.add(target);
-                totalHandlers += curHandlers;
-            }
         }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend.copy());
+        return EmitUtils.sendToAcceptors(emitTarget, energyToSend);
     }
 
     @Override
     public String toString() {
-        return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors.";
     }
 
     @Override
@@ -222,7 +218,7 @@ public class EnergyNetwork extends DynamicNetwork<IStrictEnergyHandler, EnergyNe
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.ENERGY_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.ENERGY_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 
     @Nonnull
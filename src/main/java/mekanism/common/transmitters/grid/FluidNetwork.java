@@ -1,17 +1,13 @@
 package mekanism.common.transmitters.grid;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
-import mekanism.api.Coord4D;
 import mekanism.api.fluid.IExtendedFluidTank;
 import mekanism.api.fluid.IMekanismFluidHandler;
 import mekanism.api.transmitters.DynamicNetwork;
@@ -23,13 +19,14 @@ import mekanism.common.capabilities.fluid.BasicFluidTank;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.PipeUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
@@ -39,6 +36,8 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     private final List<IExtendedFluidTank> fluidTanks;
     public final VariableCapacityFluidTank fluidTank;
+    private final FluidHandlerTarget emitTarget = new FluidHandlerTarget();
+    private final FluidTransmitterSaveTarget saveTarget = new FluidTransmitterSaveTarget();
 
     public float fluidScale;
     private int prevTransferAmount;
@@ -132,52 +131,36 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
     @Override
     protected void updateSaveShares() {
         super.updateSaveShares();
-        int size = transmittersSize();
-        if (size > 0) {
+        if (!isEmpty()) {
             FluidStack fluidType = fluidTank.getFluid();
-            //Just pretend we are always accessing it from the north
-            Direction side = Direction.NORTH;
-            Set<FluidTransmitterSaveTarget> saveTargets = new ObjectOpenHashSet<>(size);
+            saveTarget.reset(fluidType);
             for (IGridTransmitter<IFluidHandler, FluidNetwork, FluidStack> transmitter : transmitters) {
-                FluidTransmitterSaveTarget saveTarget = new FluidTransmitterSaveTarget(fluidType);
-                saveTarget.addHandler(side, transmitter);
-                saveTargets.add(saveTarget);
-            }
-            EmitUtils.sendToAcceptors(saveTargets, size, fluidType.getAmount(), fluidType);
-            for (FluidTransmitterSaveTarget saveTarget : saveTargets) {
-                saveTarget.saveShare(side);
+                saveTarget.addHandler(transmitter);
             }
+            EmitUtils.sendToAcceptors(saveTarget, fluidType.getAmount());
         }
     }
 
+    @Override
+    protected LazyOptional<IFluidHandler> getAcceptorHandler(TileEntity tile, Direction side) {
+        return CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
+    }
+
     private int tickEmit(@Nonnull FluidStack fluidToSend) {
-        Set<FluidHandlerTarget> availableAcceptors = new ObjectOpenHashSet<>();
-        int totalHandlers = 0;
-        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
-            if (tile == null) {
-                continue;
-            }
-            FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend);
-            for (Direction side : sides) {
-                CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
-                    if (PipeUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(side, acceptor);
+        emitTarget.reset(fluidToSend);
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(acceptorDirections)) {
+            long pos = entry.getLongKey();
+            byte sides = entry.getByteValue();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (hasSide(sides, side)) {
+                    IFluidHandler acceptor = getCachedAcceptor(pos, side);
+                    if (acceptor != null && PipeUtils.canFill(acceptor, fluidToSend)) {
+                        emitTarget.addHandler(acceptor);
                     }
-                });
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, fluidToSend.getAmount(), fluidToSend);
+        return (int) EmitUtils.sendToAcceptors(emitTarget, fluidToSend.getAmount());
     }
 
     @Override
@@ -206,7 +189,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     @Override
     public String toString() {
-        return "[FluidNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[FluidNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors.";
     }
 
     @Override
@@ -239,7 +222,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.FLUID_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.FLUID_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 
     @Nonnull
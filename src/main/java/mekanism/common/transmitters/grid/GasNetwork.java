@@ -1,17 +1,13 @@
 package mekanism.common.transmitters.grid;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
-import mekanism.api.Coord4D;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.gas.BasicGasTank;
 import mekanism.api.chemical.gas.Gas;
@@ -27,14 +23,15 @@ import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.chemical.VariableCapacityGasTank;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.GasUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.TextComponentUtil;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.eventbus.api.Event;
 
 /**
@@ -47,6 +44,8 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     private final List<? extends IChemicalTank<Gas, GasStack>> gasTanks;
     public final VariableCapacityGasTank gasTank;
+    private final GasHandlerTarget emitTarget = new GasHandlerTarget();
+    private final GasTransmitterSaveTarget saveTarget = new GasTransmitterSaveTarget();
 
     public float gasScale;
     private int prevTransferAmount;
@@ -140,53 +139,37 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
     @Override
     protected void updateSaveShares() {
         super.updateSaveShares();
-        int size = transmittersSize();
-        if (size > 0) {
+        if (!isEmpty()) {
             GasStack gasType = gasTank.getStack();
-            //Just pretend we are always accessing it from the north
-            Direction side = Direction.NORTH;
-            Set<GasTransmitterSaveTarget> saveTargets = new ObjectOpenHashSet<>(size);
+            saveTarget.reset(gasType);
             for (IGridTransmitter<IGasHandler, GasNetwork, GasStack> transmitter : transmitters) {
-                GasTransmitterSaveTarget saveTarget = new GasTransmitterSaveTarget(gasType);
-                saveTarget.addHandler(side, transmitter);
-                saveTargets.add(saveTarget);
-            }
-            EmitUtils.sendToAcceptors(saveTargets, size, gasType.getAmount(), gasType);
-            for (GasTransmitterSaveTarget saveTarget : saveTargets) {
-                saveTarget.saveShare(side);
+                saveTarget.addHandler(transmitter);
             }
+            EmitUtils.sendToAcceptors(saveTarget, gasType.getAmount());
         }
     }
 
+    @Override
+    protected LazyOptional<IGasHandler> getAcceptorHandler(TileEntity tile, Direction side) {
+        return CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side);
+    }
+
     private int tickEmit(@Nonnull GasStack stack) {
-        Set<GasHandlerTarget> availableAcceptors = new ObjectOpenHashSet<>();
-        int totalHandlers = 0;
+        emitTarget.reset(stack);
         GasStack unitStack = new GasStack(stack, 1);
-        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
-            if (tile == null) {
-                continue;
-            }
-            GasHandlerTarget target = new GasHandlerTarget(stack);
-            for (Direction side : sides) {
-                CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
-                    if (GasUtils.canInsert(acceptor, unitStack)) {
-                        target.addHandler(side, acceptor);
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(acceptorDirections)) {
+            long pos = entry.getLongKey();
+            byte sides = entry.getByteValue();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (hasSide(sides, side)) {
+                    IGasHandler acceptor = getCachedAcceptor(pos, side);
+                    if (acceptor != null && GasUtils.canInsert(acceptor, unitStack)) {
+                        emitTarget.addHandler(acceptor);
                     }
-                });
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, stack.getAmount(), stack);
+        return (int) EmitUtils.sendToAcceptors(emitTarget, stack.getAmount());
     }
 
     @Override
@@ -215,7 +198,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     @Override
     public String toString() {
-        return "[GasNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[GasNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors.";
     }
 
     @Override
@@ -248,7 +231,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.GAS_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.GAS_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 
     @Nonnull
@@ -1,5 +1,7 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -10,18 +12,31 @@ import mekanism.api.Coord4D;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
+import mekanism.common.base.ILogisticalTransporter;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
+import mekanism.common.content.transporter.TransporterGraph;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunk;
 
 public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwork, Void> {
 
+    private final TransporterGraph graph = new TransporterGraph();
+    /**
+     * Whether transporters were added or can be passed through by more stacks since the cached paths starting in this network were last evicted, in which case those
+     * paths may no longer be the shortest ones.
+     */
+    private boolean cachedPathsChanged;
+
     public InventoryNetwork() {
     }
 
@@ -37,26 +52,29 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Coord4D coord : possibleAcceptors) {
-            if (coord == null || coord.equals(stack.homeLocation)) {
-                continue;
-            }
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
+        long homePos = stack.homeLocation == null ? 0 : stack.homeLocation.getPos().toLong();
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(acceptorDirections)) {
+            long pos = entry.getLongKey();
+            if (stack.homeLocation != null && pos == homePos) {
                 continue;
             }
-            TileEntity acceptor = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
+            BlockPos blockPos = BlockPos.fromLong(pos);
+            TileEntity acceptor = MekanismUtils.getTileEntity(getWorld(), chunkMap, blockPos);
             if (acceptor == null) {
                 continue;
             }
 
+            byte sides = entry.getByteValue();
             AcceptorData data = null;
-            for (Direction side : sides) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (!hasSide(sides, side)) {
+                    continue;
+                }
                 Direction opposite = side.getOpposite();
                 TransitResponse response = TransporterManager.getPredictedInsert(acceptor, stack.color, request, opposite);
                 if (!response.isEmpty()) {
                     if (data == null) {
-                        toReturn.add(data = new AcceptorData(coord, response, opposite));
+                        toReturn.add(data = new AcceptorData(new Coord4D(blockPos, getWorld()), response, opposite));
                     } else {
                         data.sides.add(opposite);
                     }
@@ -66,6 +84,58 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
         return toReturn;
     }
 
+    /**
+     * @return The graph of the transporters in this network, with any pending changes applied.
+     */
+    public TransporterGraph getGraph() {
+        World world = getWorld();
+        if (world != null) {
+            graph.update(world);
+        }
+        if (cachedPathsChanged) {
+            cachedPathsChanged = false;
+            PathfinderCache.onNetworkChanged(this);
+        }
+        return graph;
+    }
+
+    /**
+     * Marks that the cached paths starting in this network should be evicted before they are next used.
+     */
+    public void invalidateCachedPaths() {
+        cachedPathsChanged = true;
+    }
+
+    public boolean hasTransmitterAt(Coord4D coord) {
+        return transmitterPositions.containsKey(getPositionKey(coord));
+    }
+
+    @Override
+    protected void onTransmitterAdded(IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter) {
+        if (transmitter instanceof ILogisticalTransporter) {
+            graph.addTransporter((ILogisticalTransporter) transmitter);
+            cachedPathsChanged = true;
+        }
+    }
+
+    @Override
+    protected void onTransmitterRemoved(IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter) {
+        graph.removeTransporter(transmitter.coord());
+    }
+
+    @Override
+    public void acceptorChanged(IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        //The connections of the transporter may have changed as well
+        graph.markDirty(transmitter.coord());
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        graph.clear();
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
@@ -94,7 +164,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
     @Override
     public String toString() {
-        return "[InventoryNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[InventoryNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors.";
     }
 
     @Override
@@ -114,7 +184,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.INVENTORY_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.INVENTORY_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 
     public static class AcceptorData {
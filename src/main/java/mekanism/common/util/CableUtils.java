@@ -1,6 +1,5 @@
 package mekanism.common.util;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.EnumSet;
 import java.util.Set;
 import mekanism.api.Action;
@@ -60,7 +59,6 @@ public final class CableUtils {
         if (energyToSend.isZero() || sides.isEmpty()) {
             return FloatingLong.ZERO;
         }
-        //Fake that we have one target given we know that no sides will overlap This allows us to have slightly better performance
         EnergyAcceptorTarget target = new EnergyAcceptorTarget();
         EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
             //Insert to access side
@@ -68,16 +66,10 @@ public final class CableUtils {
             //Collect cap
             IStrictEnergyHandler strictEnergyHandler = EnergyCompatUtils.getStrictEnergyHandler(acceptor, accessSide);
             if (strictEnergyHandler != null) {
-                target.addHandler(accessSide, strictEnergyHandler);
+                target.addHandler(strictEnergyHandler);
             }
         });
 
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, energyToSend);
-        }
-        return FloatingLong.ZERO;
+        return EmitUtils.sendToAcceptors(target, energyToSend);
     }
 }
\ No newline at end of file
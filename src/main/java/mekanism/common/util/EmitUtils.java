@@ -1,12 +1,11 @@
 package mekanism.common.util;
 
-import java.util.Set;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.Arrays;
 import java.util.function.BiConsumer;
 import mekanism.api.math.FloatingLong;
-import mekanism.common.base.SplitInfo;
-import mekanism.common.base.SplitInfo.FloatingLongSplitInfo;
-import mekanism.common.base.SplitInfo.IntegerSplitInfo;
-import mekanism.common.base.target.Target;
+import mekanism.common.base.target.FloatingLongTarget;
+import mekanism.common.base.target.LongTarget;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -15,66 +14,90 @@ import net.minecraft.world.World;
 public class EmitUtils {
 
     /**
-     * @param <HANDLER>        The handler of our target.
-     * @param <TYPE>           The type of the number
-     * @param <EXTRA>          Any extra information we may need.
-     * @param <TARGET>         The emitter target.
-     * @param availableTargets The targets to distribute toSend fairly among.
-     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
-     * @param splitInfo        Information containing the split.
-     * @param toSend           Any extra information such as gas stack or fluid stack.
+     * Splits the given amount fairly between all handlers of the target. Handlers that want less than an even split get everything they want, and whatever they did not
+     * want is split evenly between the remaining handlers. The handlers are sorted by how much they want so that this can be done in a single pass.
+     *
+     * @param target        The target containing the handlers to distribute the amount among. The handlers of the target are cleared after distributing.
+     * @param amountToSplit The amount to split between all the handlers.
      *
      * @return The amount that actually got sent.
      */
-    private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          Set<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
-        if (availableTargets.isEmpty() || totalTargets == 0) {
-            return splitInfo.getTotalSent();
+    public static <HANDLER, EXTRA> long sendToAcceptors(LongTarget<HANDLER, EXTRA> target, long amountToSplit) {
+        int size = target.getHandlerCount();
+        if (size == 0) {
+            return 0;
         }
-
-        //Simulate addition, sending when the requested amount is less than the amountPer
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendPossible(toSend, splitInfo));
-
-        //Only run this if we changed the amountPer from when we first/last ran things
-        while (splitInfo.amountPerChanged) {
-            splitInfo.amountPerChanged = false;
-            //splitInfo gets adjusted to account for how much is actually sent,
-            // and if amountPer got changed again and we need to rerun this
-            availableTargets.forEach(target -> target.shiftNeeded(splitInfo));
+        long[] needed = target.getNeeded(size);
+        int[] sortedIndices = target.getSortedIndices(size);
+        EXTRA extra = target.getExtra();
+        for (int i = 0; i < size; i++) {
+            needed[i] = target.simulate(target.getHandler(i), extra);
+            sortedIndices[i] = i;
         }
-
-        //Evenly distribute the remaining amount we have to give between all targets and handlers
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendRemainingSplit(splitInfo));
-        return splitInfo.getTotalSent();
+        IntArrays.quickSort(sortedIndices, 0, size, (a, b) -> Long.compare(needed[a], needed[b]));
+        long sentSoFar = 0;
+        int toSplitAmong = size;
+        long amountPerTarget = amountToSplit / toSplitAmong;
+        for (int i = 0; i < size; i++) {
+            int index = sortedIndices[i];
+            //As the handlers are sorted, once one wants more than the even split all the remaining ones do as well, so just offer them the even split
+            long amountNeeded = Math.min(needed[index], amountPerTarget);
+            long sent = target.acceptAmount(target.getHandler(index), amountNeeded);
+            amountToSplit -= sent;
+            sentSoFar += sent;
+            toSplitAmong--;
+            //Only recalculate it if it is not willing to accept/doesn't want the full per side split
+            if (sent != amountPerTarget && toSplitAmong != 0) {
+                amountPerTarget = amountToSplit / toSplitAmong;
+            }
+        }
+        target.reset(extra);
+        return sentSoFar;
     }
 
     /**
-     * @param <HANDLER>        The handler of our target.
-     * @param <EXTRA>          Any extra information we may need
-     * @param <TARGET>         The emitter target
-     * @param availableTargets The targets to distribute toSend fairly among.
-     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
-     * @param amountToSplit    The amount to split between all the targets
-     * @param toSend           Any extra information such as gas stack or fluid stack.
+     * Splits the given amount of energy fairly between all handlers of the target. Handlers that want less than an even split get everything they want, and whatever
+     * they did not want is split evenly between the remaining handlers. The handlers are sorted by how much they want so that this can be done in a single pass.
      *
-     * @return The amount that actually got sent.
-     */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, int amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, totalTargets, new IntegerSplitInfo(amountToSplit, totalTargets), toSend);
-    }
-
-    /**
-     * @param availableTargets The EnergyAcceptorWrapper targets to send energy fairly to.
-     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
-     * @param amountToSplit    The amount of energy to attempt to send
+     * @param target        The target containing the handlers to distribute the energy among. The handlers of the target are cleared after distributing.
+     * @param amountToSplit The amount of energy to attempt to send.
      *
-     * @return The amount that actually got sent
+     * @return The amount that actually got sent.
      */
-    public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(Set<TARGET> availableTargets, int totalTargets,
-          FloatingLong amountToSplit) {
-        return sendToAcceptors(availableTargets, totalTargets, new FloatingLongSplitInfo(amountToSplit, totalTargets), amountToSplit);
+    public static <HANDLER> FloatingLong sendToAcceptors(FloatingLongTarget<HANDLER> target, FloatingLong amountToSplit) {
+        int size = target.getHandlerCount();
+        if (size == 0) {
+            return FloatingLong.ZERO;
+        }
+        FloatingLong[] needed = target.getNeeded(size);
+        int[] sortedIndices = target.getSortedIndices(size);
+        for (int i = 0; i < size; i++) {
+            //Give each handler its own copy so that it can't modify the energy of the network
+            needed[i] = target.simulate(target.getHandler(i), amountToSplit.copy());
+            sortedIndices[i] = i;
+        }
+        IntArrays.quickSort(sortedIndices, 0, size, (a, b) -> needed[a].compareTo(needed[b]));
+        amountToSplit = amountToSplit.copy();
+        FloatingLong sentSoFar = FloatingLong.ZERO;
+        int toSplitAmong = size;
+        FloatingLong amountPerTarget = amountToSplit.divide(toSplitAmong);
+        for (int i = 0; i < size; i++) {
+            int index = sortedIndices[i];
+            //As the handlers are sorted, once one wants more than the even split all the remaining ones do as well, so just offer them the even split
+            FloatingLong amountNeeded = needed[index].greaterThan(amountPerTarget) ? amountPerTarget : needed[index];
+            FloatingLong sent = target.acceptAmount(target.getHandler(index), amountNeeded);
+            amountToSplit = amountToSplit.minusEqual(sent);
+            sentSoFar = sentSoFar.plusEqual(sent);
+            toSplitAmong--;
+            //Only recalculate it if it is not willing to accept/doesn't want the full per side split
+            if (!sent.equals(amountPerTarget) && toSplitAmong != 0) {
+                amountPerTarget = amountToSplit.divide(toSplitAmong);
+            }
+        }
+        //Clear the needed amounts so that we don't hold onto them between emissions
+        Arrays.fill(needed, 0, size, null);
+        target.reset(target.getExtra());
+        return sentSoFar;
     }
 
     /**
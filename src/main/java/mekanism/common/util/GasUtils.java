@@ -1,6 +1,5 @@
 package mekanism.common.util;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Optional;
@@ -97,9 +96,7 @@ public final class GasUtils {
         if (stack.isEmpty() || sides.isEmpty()) {
             return 0;
         }
-        //Fake that we have one target given we know that no sides will overlap
-        // This allows us to have slightly better performance
-        GasHandlerTarget target = new GasHandlerTarget(stack);
+        GasHandlerTarget target = new GasHandlerTarget(stack.copy());
         GasStack unitStack = new GasStack(stack, 1);
         EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
             //Insert to access side
@@ -107,17 +104,11 @@ public final class GasUtils {
             //Collect cap
             CapabilityUtils.getCapability(acceptor, Capabilities.GAS_HANDLER_CAPABILITY, accessSide).ifPresent(handler -> {
                 if (canInsert(handler, unitStack)) {
-                    target.addHandler(accessSide, handler);
+                    target.addHandler(handler);
                 }
             });
         });
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<GasHandlerTarget> targets = new ObjectOpenHashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, stack.getAmount(), stack.copy());
-        }
-        return 0;
+        return (int) EmitUtils.sendToAcceptors(target, stack.getAmount());
     }
 
     public static boolean canInsert(IGasHandler handler, @Nonnull GasStack unitStack) {
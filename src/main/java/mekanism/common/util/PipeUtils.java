@@ -1,6 +1,5 @@
 package mekanism.common.util;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.EnumSet;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -69,27 +68,19 @@ public final class PipeUtils {
             return 0;
         }
         FluidStack toSend = stack.copy();
-        //Fake that we have one target given we know that no sides will overlap
-        // This allows us to have slightly better performance
-        FluidHandlerTarget target = new FluidHandlerTarget(stack);
+        FluidHandlerTarget target = new FluidHandlerTarget(toSend);
         EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
             //Insert to access side
             Direction accessSide = side.getOpposite();
             //Collect cap
             CapabilityUtils.getCapability(acceptor, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, accessSide).ifPresent(handler -> {
                 if (canFill(handler, toSend)) {
-                    target.addHandler(accessSide, handler);
+                    target.addHandler(handler);
                 }
             });
         });
 
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<FluidHandlerTarget> targets = new ObjectOpenHashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, stack.getAmount(), toSend);
-        }
-        return 0;
+        return (int) EmitUtils.sendToAcceptors(target, stack.getAmount());
     }
 
     public static boolean canFill(IFluidHandler handler, @Nonnull FluidStack stack) {
@@ -0,0 +1,246 @@
+package mekanism.additions.common.voice;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the voice server over loopback")
+class VoiceServerLoadTest {
+
+    private static final int FRAME_SIZE = 2_200;
+
+    private VoiceServerManager manager;
+    private final List<Socket> sockets = new ArrayList<>();
+    /**
+     * Released once for every connection the server has traced and started sending audio to.
+     */
+    private final Semaphore traced = new Semaphore(0);
+
+    @BeforeEach
+    void startServer() {
+        //Put everyone on the same channel without needing any players
+        manager = new VoiceServerManager() {
+            @Override
+            protected boolean identify(VoiceConnection connection) {
+                //The connection starts listening on the selector thread right after this, before any audio gets read
+                traced.release();
+                return true;
+            }
+
+            @Override
+            protected int getChannel(VoiceConnection connection) {
+                return 1;
+            }
+
+            @Override
+            protected boolean canListen(VoiceConnection connection, int channel) {
+                return true;
+            }
+        };
+        manager.start(0);
+        Assertions.assertTrue(manager.getPort() > 0);
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        sockets.clear();
+        manager.stop();
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), manager.getPort());
+        socket.setTcpNoDelay(true);
+        sockets.add(socket);
+        return socket;
+    }
+
+    private void awaitTraced(int connections) throws InterruptedException {
+        Assertions.assertTrue(traced.tryAcquire(connections, 5, TimeUnit.SECONDS), "The server did not trace every connection");
+    }
+
+    private static byte[] createFrame(int sender, int sequence) {
+        byte[] audio = new byte[FRAME_SIZE];
+        audio[0] = (byte) sender;
+        audio[1] = (byte) (sequence >> 8);
+        audio[2] = (byte) sequence;
+        for (int i = 3; i < audio.length; i++) {
+            audio[i] = (byte) (sender + i);
+        }
+        return audio;
+    }
+
+    private static void sendFrames(Socket socket, int sender, int frames, long delay) throws IOException, InterruptedException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        for (int sequence = 0; sequence < frames; sequence++) {
+            byte[] audio = createFrame(sender, sequence);
+            output.writeShort(audio.length);
+            output.write(audio);
+            output.flush();
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    /**
+     * Starts reading frames from a socket, checking that every frame is intact, and counting down the latch once the last frame of every other sender was received.
+     */
+    private static Thread startReader(Socket socket, int senders, int frames, AtomicInteger received, AtomicBoolean corrupted, CountDownLatch latch) {
+        Thread thread = new Thread(() -> {
+            try {
+                DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                int finished = 0;
+                while (finished < senders) {
+                    int length = input.readUnsignedShort();
+                    byte[] audio = new byte[length];
+                    input.readFully(audio);
+                    int sender = audio[0];
+                    int sequence = ((audio[1] & 0xFF) << 8) | (audio[2] & 0xFF);
+                    byte[] expected = createFrame(sender, sequence);
+                    if (length != FRAME_SIZE || !Arrays.equals(audio, expected)) {
+                        corrupted.set(true);
+                        break;
+                    }
+                    received.incrementAndGet();
+                    if (sequence == frames - 1) {
+                        finished++;
+                    }
+                }
+                latch.countDown();
+            } catch (IOException ignored) {
+            }
+        }, "VoiceServer Test Reader");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Starts reading frames from a socket until the server closes it, checking that every frame is intact, and counting down the latch once the socket is closed.
+     */
+    private static Thread startReaderUntilClosed(Socket socket, AtomicInteger received, AtomicBoolean corrupted, CountDownLatch latch) {
+        Thread thread = new Thread(() -> {
+            try {
+                DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                while (true) {
+                    int length = input.readUnsignedShort();
+                    byte[] audio = new byte[length];
+                    input.readFully(audio);
+                    int sender = audio[0];
+                    int sequence = ((audio[1] & 0xFF) << 8) | (audio[2] & 0xFF);
+                    if (length != FRAME_SIZE || !Arrays.equals(audio, createFrame(sender, sequence))) {
+                        corrupted.set(true);
+                        break;
+                    }
+                    received.incrementAndGet();
+                }
+            } catch (IOException ignored) {
+                //The server closed the connection
+            } finally {
+                latch.countDown();
+            }
+        }, "VoiceServer Test Reader");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    @DisplayName("Test frames get fanned out to every other connection")
+    void testFanOut() throws Exception {
+        int clients = 8;
+        int frames = 20;
+        List<Socket> connected = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            connected.add(connect());
+        }
+        awaitTraced(clients);
+        AtomicInteger[] received = new AtomicInteger[clients];
+        AtomicBoolean corrupted = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            received[i] = new AtomicInteger();
+            startReader(connected.get(i), clients - 1, frames, received[i], corrupted, latch);
+        }
+        for (int i = 0; i < clients; i++) {
+            sendFrames(connected.get(i), i, frames, 5);
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS), "Not every client received every frame");
+        Assertions.assertFalse(corrupted.get());
+        for (int i = 0; i < clients; i++) {
+            Assertions.assertEquals((clients - 1) * frames, received[i].get());
+        }
+    }
+
+    @Test
+    @DisplayName("Test a client that doesn't read does not hold up the others")
+    void testSlowClient() throws Exception {
+        int clients = 16;
+        int frames = 500;
+        //Never read anything from this one
+        connect();
+        List<Socket> connected = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            connected.add(connect());
+        }
+        awaitTraced(clients + 1);
+        AtomicInteger[] received = new AtomicInteger[clients];
+        AtomicBoolean corrupted = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            received[i] = new AtomicInteger();
+            startReaderUntilClosed(connected.get(i), received[i], corrupted, latch);
+        }
+        List<Thread> senders = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        for (int i = 0; i < clients; i++) {
+            Socket socket = connected.get(i);
+            int sender = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    sendFrames(socket, sender, frames, 0);
+                } catch (Exception e) {
+                    failed.set(true);
+                }
+            }, "VoiceServer Test Sender");
+            thread.setDaemon(true);
+            thread.start();
+            senders.add(thread);
+        }
+        for (Thread thread : senders) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+            Assertions.assertFalse(thread.isAlive(), "A client that doesn't read held up the others");
+        }
+        Assertions.assertFalse(failed.get());
+        //Frames may get dropped for readers that fall behind, so instead of waiting for specific frames end the run by having every sender hang up. The server
+        // closes each connection once it has read everything that was sent on it, which lets the readers finish
+        for (Socket socket : connected) {
+            socket.shutdownOutput();
+        }
+        Assertions.assertTrue(latch.await(30, TimeUnit.SECONDS), "Not every connection got closed");
+        Assertions.assertFalse(corrupted.get());
+        for (int i = 0; i < clients; i++) {
+            Assertions.assertTrue(received[i].get() > 0, "A client that reads did not receive any frames");
+        }
+    }
+}
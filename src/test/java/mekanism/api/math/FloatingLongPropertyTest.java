@@ -1,6 +1,7 @@
 package mekanism.api.math;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -93,4 +94,33 @@ class FloatingLongPropertyTest implements WithQuickTheories {
             return b.isZero() || a.divide(b).equals(divideViaBigDecimal(a, b));
         });
     }
+
+    @Test
+    @DisplayName("Test dividing to an unsigned long and clamping at max unsigned long for overflow")
+    void testDivisionToUnsignedLong() {
+        BigInteger maxUnsignedLong = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+        theoryForAllPairs().check((v1, d1, v2, d2) -> {
+            FloatingLong a = FloatingLong.createConst(v1, d1.shortValue());
+            FloatingLong b = FloatingLong.createConst(v2, d2.shortValue());
+            if (b.isZero()) {
+                return true;
+            }
+            BigInteger expected = new BigDecimal(a.toString()).divide(new BigDecimal(b.toString()), 0, RoundingMode.FLOOR).toBigInteger().min(maxUnsignedLong);
+            return Long.toUnsignedString(a.divideToUnsignedLong(b)).equals(expected.toString());
+        });
+    }
+
+    @Test
+    @DisplayName("Test the in place primitive operations match the object operations")
+    void testPrimitiveOperations() {
+        theoryForAllPairs().check((v1, d1, v2, d2) -> {
+            FloatingLong a = FloatingLong.createConst(v1, d1.shortValue());
+            FloatingLong b = FloatingLong.createConst(v2, d2.shortValue());
+            short decimal = d2.shortValue();
+            return a.copy().plusEqual(v2, decimal).equals(addViaBigDecimal(a, b)) &&
+                   a.copy().minusEqual(v2, decimal).equals(subtractViaBigDecimal(a, b)) &&
+                   a.copy().timesEqual(v2, decimal).equals(multiplyViaBigDecimal(a, b)) &&
+                   (b.isZero() || a.copy().divideEquals(v2, decimal).equals(divideViaBigDecimal(a, b)));
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package mekanism.common.inventory.container.sync.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import mekanism.common.network.container.property.list.ListPropertyData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test syncing only the changed part of a SyncableList")
+class SyncableListTest {
+
+    private List<String> serverValues;
+    private List<String> clientValues;
+    private RecordingList server;
+    private RecordingList client;
+
+    @BeforeEach
+    void setup() {
+        serverValues = new ArrayList<>(Arrays.asList("a", "b", "c", "d"));
+        clientValues = new ArrayList<>();
+        server = new RecordingList(() -> serverValues, values -> serverValues = values);
+        client = new RecordingList(() -> clientValues, values -> clientValues = values);
+        //Initial sync
+        sync();
+        Assertions.assertEquals(-1, server.start);
+    }
+
+    private void sync() {
+        server.getPropertyData((short) 0, server.isDirty());
+        client.set(server.values, server.start, server.removed);
+        Assertions.assertEquals(serverValues, clientValues);
+    }
+
+    private void assertSent(int start, int removed, String... values) {
+        Assertions.assertEquals(start, server.start);
+        Assertions.assertEquals(removed, server.removed);
+        Assertions.assertEquals(Arrays.asList(values), server.values);
+    }
+
+    @Test
+    @DisplayName("Test inserting an element")
+    void testInsert() {
+        serverValues.add(2, "x");
+        sync();
+        assertSent(2, 0, "x");
+        serverValues.add("y");
+        sync();
+        assertSent(5, 0, "y");
+    }
+
+    @Test
+    @DisplayName("Test removing an element")
+    void testRemove() {
+        serverValues.remove(1);
+        sync();
+        assertSent(1, 1);
+        serverValues.remove(0);
+        sync();
+        assertSent(0, 1);
+    }
+
+    @Test
+    @DisplayName("Test swapping two elements")
+    void testSwap() {
+        Collections.swap(serverValues, 1, 2);
+        sync();
+        assertSent(1, 2, "c", "b");
+        Collections.swap(serverValues, 0, 3);
+        sync();
+        //The entire list changed, so it gets sent in full
+        Assertions.assertEquals(-1, server.start);
+    }
+
+    @Test
+    @DisplayName("Test changes next to equal elements")
+    void testDuplicates() {
+        serverValues = new ArrayList<>(Arrays.asList("a", "a", "b", "a", "a"));
+        sync();
+        serverValues.add(1, "a");
+        sync();
+        serverValues.remove(4);
+        sync();
+        serverValues.set(3, "a");
+        sync();
+        Assertions.assertEquals(Arrays.asList("a", "a", "a", "a", "a"), clientValues);
+        serverValues.remove(0);
+        sync();
+        serverValues.add("a");
+        sync();
+    }
+
+    @Test
+    @DisplayName("Test clearing the list")
+    void testClear() {
+        serverValues.clear();
+        sync();
+        Assertions.assertEquals(-1, server.start);
+        serverValues.add("a");
+        sync();
+    }
+
+    @Test
+    @DisplayName("Test that the entire list is sent after resetting what was last sent")
+    void testReset() {
+        serverValues.add("e");
+        server.resetLastSent();
+        sync();
+        assertSent(-1, 0, "a", "b", "c", "d", "e");
+    }
+
+    @Test
+    @DisplayName("Test that out of range changes are ignored")
+    void testOutOfRange() {
+        client.set(Collections.singletonList("x"), 3, 2);
+        Assertions.assertEquals(serverValues, clientValues);
+    }
+
+    private static class RecordingList extends SyncableList<String> {
+
+        private List<String> values;
+        private int start;
+        private int removed;
+
+        private RecordingList(Supplier<List<String>> getter, Consumer<List<String>> setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        protected ListPropertyData<String> createPropertyData(short property, @Nonnull List<String> values, int start, int removed) {
+            this.values = new ArrayList<>(values);
+            this.start = start;
+            this.removed = removed;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package mekanism.common.util;
+
+import mekanism.common.base.target.LongTarget;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the fair splitting of EmitUtils")
+class EmitUtilsTest {
+
+    private static long[] split(long amount, long... capacities) {
+        long[] received = new long[capacities.length];
+        BucketTarget target = new BucketTarget(received);
+        for (int i = 0; i < capacities.length; i++) {
+            target.addHandler(new Bucket(i, capacities[i]));
+        }
+        long sent = EmitUtils.sendToAcceptors(target, amount);
+        long total = 0;
+        for (long r : received) {
+            total += r;
+        }
+        Assertions.assertEquals(total, sent);
+        Assertions.assertTrue(target.isEmpty());
+        return received;
+    }
+
+    @Test
+    @DisplayName("Test that handlers wanting less than the even split get what they want and the rest is split evenly")
+    void testWaterFill() {
+        Assertions.assertArrayEquals(new long[]{1, 2, 27}, split(30, 1, 2, 100));
+        Assertions.assertArrayEquals(new long[]{10, 10, 10}, split(30, 100, 100, 100));
+    }
+
+    @Test
+    @DisplayName("Test that the split does not depend on the order of the handlers")
+    void testOrderIndependent() {
+        Assertions.assertArrayEquals(new long[]{27, 2, 1}, split(30, 100, 2, 1));
+        Assertions.assertArrayEquals(new long[]{2, 27, 1}, split(30, 2, 100, 1));
+    }
+
+    @Test
+    @DisplayName("Test that the remainder of an uneven split is not sent")
+    void testRemainder() {
+        Assertions.assertArrayEquals(new long[]{3, 3, 3}, split(10, 3, 100, 100));
+    }
+
+    @Test
+    @DisplayName("Test that every handler is offered an amount even when there is nothing to send")
+    void testNothingToSend() {
+        BucketTarget target = new BucketTarget(new long[2]);
+        Bucket a = new Bucket(0, 5);
+        Bucket b = new Bucket(1, 5);
+        target.addHandler(a);
+        target.addHandler(b);
+        Assertions.assertEquals(0, EmitUtils.sendToAcceptors(target, 0));
+        Assertions.assertTrue(a.offered && b.offered);
+    }
+
+    private static class Bucket {
+
+        private final int index;
+        private final long capacity;
+        private boolean offered;
+
+        private Bucket(int index, long capacity) {
+            this.index = index;
+            this.capacity = capacity;
+        }
+    }
+
+    private static class BucketTarget extends LongTarget<Bucket, Void> {
+
+        private final long[] received;
+
+        private BucketTarget(long[] received) {
+            this.received = received;
+        }
+
+        @Override
+        public long acceptAmount(Bucket bucket, long amount) {
+            bucket.offered = true;
+            long accepted = Math.min(amount, bucket.capacity - received[bucket.index]);
+            received[bucket.index] += accepted;
+            return accepted;
+        }
+
+        @Override
+        public long simulate(Bucket bucket, Void extra) {
+            return bucket.capacity - received[bucket.index];
+        }
+    }
+}